@@ -0,0 +1,71 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Uses the same RSA JWK source, encoder and decoder beans the authorization server builds.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JwtBenchmark {
+
+    private JwtEncoder encoder;
+    private JwtDecoder decoder;
+    private JwtEncoderParameters parameters;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        AuthorizationServerConfiguration configuration = new AuthorizationServerConfiguration();
+        JWKSource<SecurityContext> jwkSource = configuration.jwkSource();
+        encoder = configuration.jwtEncoder(jwkSource);
+        decoder = configuration.jwtDecoder(jwkSource);
+
+        // Far-future expiry so decoding keeps validating successfully for the whole run.
+        Instant issuedAt = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer("http://localhost:8080")
+                .subject("benchmark@example.com")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(365, ChronoUnit.DAYS))
+                .claim("authorities", List.of("ROLE_USER"))
+                .claim("email", "benchmark@example.com")
+                .claim("userId", "0190a6b2-7c1e-7000-8000-000000000001")
+                .build();
+        parameters = JwtEncoderParameters.from(claims);
+        token = encoder.encode(parameters).getTokenValue();
+    }
+
+    @Benchmark
+    public Jwt encode() {
+        return encoder.encode(parameters);
+    }
+
+    @Benchmark
+    public Jwt decode() {
+        return decoder.decode(token);
+    }
+}
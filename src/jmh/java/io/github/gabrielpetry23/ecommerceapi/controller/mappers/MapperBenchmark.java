@@ -0,0 +1,123 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.mappers;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductRatingDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductRatingBucket;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// Exercises the generated MapStruct implementations directly. Product images and rating
+// buckets are passed in preloaded, so none of the mapped methods touch the repositories
+// the Spring beans are wired with.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class MapperBenchmark {
+
+    @Param({"1", "20"})
+    private int childCount;
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+    private final OrderMapper orderMapper = new OrderMapperImpl();
+
+    private Product product;
+    private List<ProductRatingBucket> buckets;
+    private Map<UUID, List<ProductImage>> imagesByProduct;
+    private Map<UUID, List<ProductRatingBucket>> bucketsByProduct;
+    private Order order;
+
+    @Setup
+    public void setUp() {
+        Category category = new Category();
+        category.setId(new UUID(1L, 1L));
+        category.setName("Electronics");
+
+        product = new Product();
+        product.setId(new UUID(2L, 2L));
+        product.setName("Benchmark Laptop");
+        product.setDescription("A product used to measure DTO mapping");
+        product.setPrice(new BigDecimal("4999.90"));
+        product.setStock(12);
+        product.setCategory(category);
+        product.setReviewCount(childCount);
+        product.setRatingSum(childCount * 7L);
+
+        List<ProductImage> images = new ArrayList<>();
+        buckets = new ArrayList<>();
+        for (int i = 0; i < childCount; i++) {
+            ProductImage image = new ProductImage();
+            image.setImageUrl("https://cdn.example.com/products/" + i + ".png");
+            image.setMain(i == 0);
+            image.setProduct(product);
+            images.add(image);
+
+            ProductRatingBucket bucket = new ProductRatingBucket();
+            bucket.setProductId(product.getId());
+            bucket.setRating(i % 10 + 1);
+            bucket.setReviewCount(1L);
+            buckets.add(bucket);
+        }
+        product.setImages(images);
+        imagesByProduct = Map.of(product.getId(), images);
+        bucketsByProduct = Map.of(product.getId(), buckets);
+
+        User user = new User();
+        user.setId(new UUID(3L, 3L));
+        user.setName("Benchmark Customer");
+
+        order = new Order();
+        order.setUser(user);
+        order.setStatus(OrderStatus.PAID);
+        order.setTotal(new BigDecimal("4999.90").multiply(BigDecimal.valueOf(childCount)));
+        for (int i = 0; i < childCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setPrice(product.getPrice());
+            order.getItems().add(item);
+        }
+    }
+
+    @Benchmark
+    public ProductResponseDTO productToDTO() {
+        return productMapper.toDTO(product, imagesByProduct, bucketsByProduct);
+    }
+
+    @Benchmark
+    public ProductRatingDTO productRating() {
+        return productMapper.toRatingDTO(product, buckets);
+    }
+
+    @Benchmark
+    public OrderResponseDTO orderToDTO() {
+        return orderMapper.toDTO(order);
+    }
+}
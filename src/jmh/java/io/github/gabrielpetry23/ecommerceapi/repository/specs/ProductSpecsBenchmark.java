@@ -0,0 +1,90 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.specs;
+
+import io.github.gabrielpetry23.ecommerceapi.model.*;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+// Builds the criteria predicates the specification search engine composes for a fully
+// populated search, against a metadata-only Hibernate session factory.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProductSpecsBenchmark {
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .setProperty("hibernate.connection.url", "jdbc:h2:mem:specs-benchmark")
+                .setProperty("hibernate.dialect", "org.hibernate.dialect.H2Dialect")
+                .setProperty("hibernate.boot.allow_jdbc_metadata_access", "false")
+                .addAnnotatedClass(Address.class)
+                .addAnnotatedClass(Cart.class)
+                .addAnnotatedClass(CartItem.class)
+                .addAnnotatedClass(Category.class)
+                .addAnnotatedClass(Coupon.class)
+                .addAnnotatedClass(Notification.class)
+                .addAnnotatedClass(Order.class)
+                .addAnnotatedClass(OrderItem.class)
+                .addAnnotatedClass(PaymentMethod.class)
+                .addAnnotatedClass(Product.class)
+                .addAnnotatedClass(ProductImage.class)
+                .addAnnotatedClass(ProductRatingBucket.class)
+                .addAnnotatedClass(ProductReview.class)
+                .addAnnotatedClass(TrackingDetails.class)
+                .addAnnotatedClass(User.class)
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Predicate fullSearch() {
+        Specification<Product> specs = Specification.<Product>where((root, query, builder) -> builder.conjunction())
+                .and(ProductSpecs.nameLike("laptop"))
+                .and(ProductSpecs.categoryNameEqual("Electronics"))
+                .and(ProductSpecs.descriptionContainsKeywords("fast light gaming"))
+                .and(ProductSpecs.priceGreaterThanOrEqualTo(new BigDecimal("1000.00")))
+                .and(ProductSpecs.priceLessThanOrEqualTo(new BigDecimal("9000.00")))
+                .and(ProductSpecs.stockGreaterThanOrEqualTo(1));
+
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return specs.toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public Predicate nameOnly() {
+        CriteriaQuery<Product> query = cb.createQuery(Product.class);
+        Root<Product> root = query.from(Product.class);
+        return ProductSpecs.nameLike("laptop").toPredicate(root, query, cb);
+    }
+}
@@ -0,0 +1,172 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.EcommerceapiApplication;
+import io.github.gabrielpetry23.ecommerceapi.configuration.StatementStatistics;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderRequestDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Address;
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.CartItem;
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.PaymentMethod;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.CartRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import io.github.gabrielpetry23.ecommerceapi.security.CustomAuthentication;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+// OrderService.createOrder end to end against the test profile's embedded database, with
+// the cart refilled before every call. Besides latency, reports the JDBC round trips the
+// checkouts make, as counted by StatementStatistics on the calling thread.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CheckoutBenchmark {
+
+    @Param({"1", "10"})
+    private int itemCount;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private StatementStatistics statementStatistics;
+    private CartRepository cartRepository;
+    private TransactionTemplate transactionTemplate;
+
+    private User user;
+    private List<Product> products;
+    private OrderRequestDTO request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(EcommerceapiApplication.class)
+                .profiles("test")
+                .run("--server.port=0",
+                        "--logging.level.root=warn",
+                        "--logging.level.org.hibernate.SQL=warn",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+                        "--app.email.from=Checkout Benchmark <benchmark@example.com>",
+                        "--app.email.dispatcher.initial-delay=3600000",
+                        "--app.email.dispatcher.poll-interval=3600000");
+        orderService = context.getBean(OrderService.class);
+        statementStatistics = context.getBean(StatementStatistics.class);
+        cartRepository = context.getBean(CartRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+
+        List<Product> seeded = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            Product product = new Product();
+            product.setName("Checkout Product " + i);
+            product.setPrice(new BigDecimal("19.90"));
+            product.setStock(Integer.MAX_VALUE);
+            seeded.add(product);
+        }
+        products = context.getBean(ProductRepository.class).saveAll(seeded);
+
+        User shopper = new User();
+        shopper.setName("Checkout Shopper");
+        shopper.setEmail("checkout-" + UUID.randomUUID() + "@example.com");
+        shopper.setRole("USER");
+
+        Cart cart = new Cart();
+        cart.setUser(shopper);
+        shopper.setCart(cart);
+
+        Address address = new Address();
+        address.setUser(shopper);
+        address.setStreet("Rua do Benchmark");
+        address.setNumber("1");
+        address.setCity("Porto Alegre");
+        address.setState("RS");
+        address.setZipCode("90000-000");
+        address.setCountry("Brasil");
+        shopper.getAddresses().add(address);
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setUser(shopper);
+        paymentMethod.setType("CREDIT_CARD");
+        paymentMethod.setProvider("VISA");
+        paymentMethod.setPaymentToken("benchmark-" + UUID.randomUUID());
+        shopper.getPaymentMethods().add(paymentMethod);
+
+        user = context.getBean(UserRepository.class).save(shopper);
+        request = new OrderRequestDTO(user.getAddresses().getFirst().getId().toString(),
+                user.getPaymentMethods().getFirst().getId().toString(), null);
+    }
+
+    @Setup(Level.Invocation)
+    public void fillCart() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Cart cart = cartRepository.findById(user.getCart().getId()).orElseThrow();
+            BigDecimal total = BigDecimal.ZERO;
+            for (Product product : products) {
+                CartItem item = new CartItem();
+                item.setCart(cart);
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setTotal(product.getPrice());
+                cart.getItems().add(item);
+                total = total.add(product.getPrice());
+            }
+            cart.setTotal(total);
+        });
+        SecurityContextHolder.getContext().setAuthentication(new CustomAuthentication(user));
+    }
+
+    @Benchmark
+    public Order checkout(StatementCounters counters) {
+        statementStatistics.beginCount();
+        try {
+            return orderService.createOrder(request);
+        } finally {
+            counters.statements += statementStatistics.endCount();
+            counters.checkouts++;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    // Secondary results per iteration, so they land in jmh-result.json next to the latency;
+    // statements / checkouts is the round trip count of one checkout.
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StatementCounters {
+        public long statements;
+        public long checkouts;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+            checkouts = 0;
+        }
+    }
+}
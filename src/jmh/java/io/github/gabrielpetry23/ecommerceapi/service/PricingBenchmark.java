@@ -0,0 +1,86 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.CartItem;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PricingBenchmark {
+
+    @Param({"5", "50"})
+    private int itemCount;
+
+    @Param({"NONE", "AMOUNT", "PERCENTAGE"})
+    private String couponType;
+
+    private List<OrderItem> orderItems;
+    private Coupon coupon;
+    private Cart cart;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        orderItems = new ArrayList<>(itemCount);
+        cart = new Cart();
+        for (int i = 0; i < itemCount; i++) {
+            BigDecimal price = BigDecimal.valueOf(random.nextInt(100, 100_000), 2);
+
+            OrderItem orderItem = new OrderItem();
+            orderItem.setQuantity(1);
+            orderItem.setPrice(price);
+            orderItems.add(orderItem);
+
+            CartItem cartItem = new CartItem();
+            cartItem.setCart(cart);
+            cartItem.setQuantity(1);
+            cartItem.setTotal(price);
+            cart.getItems().add(cartItem);
+        }
+
+        coupon = switch (couponType) {
+            case "AMOUNT" -> coupon(new BigDecimal("25.00"), BigDecimal.ZERO);
+            case "PERCENTAGE" -> coupon(BigDecimal.ZERO, new BigDecimal("12.50"));
+            default -> null;
+        };
+    }
+
+    private static Coupon coupon(BigDecimal amount, BigDecimal percentage) {
+        Coupon coupon = new Coupon();
+        coupon.setDiscountAmount(amount);
+        coupon.setDiscountPercentage(percentage);
+        return coupon;
+    }
+
+    @Benchmark
+    public BigDecimal orderDiscountedTotal() {
+        return OrderService.calculateDiscountedTotal(orderItems, coupon);
+    }
+
+    @Benchmark
+    public BigDecimal cartTotal() {
+        return CartService.calculateTotalPrice(cart);
+    }
+}
@@ -143,7 +143,8 @@ public class AuthorizationServerConfiguration {
 
                     context.getClaims()
                             .claim("authorities", authoritiesList)
-                            .claim("email", authentication.getUser().getEmail());
+                            .claim("email", authentication.getEmail())
+                            .claim("userId", authentication.getUserId().toString());
                 }
             }
         };
@@ -19,9 +19,11 @@ public class DatabaseConfiguration {
     String password;
     @Value("${spring.datasource.driver-class-name}")
     String driver;
+    @Value("${app.sql-statistics.enabled:true}")
+    boolean statementStatistics;
 
     @Bean
-    public DataSource hikariDataSource() {
+    public DataSource hikariDataSource(StatementStatistics statistics) {
         HikariConfig config = new HikariConfig();
         config.setUsername(username);
         config.setPassword(password);
@@ -35,6 +37,7 @@ public class DatabaseConfiguration {
         config.setConnectionTimeout(100000);
         config.setConnectionTestQuery("select 1");
 
-        return new HikariDataSource(config);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        return statementStatistics ? new StatementStatisticsDataSource(dataSource, statistics) : dataSource;
     }
 }
@@ -0,0 +1,107 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Timers and error counters per layer, class and method. Tags only ever hold class,
+// method and exception type names, so the series count is bounded by the code base.
+@Component
+public class MethodMetrics {
+
+    private static final String TIMER = "app.method";
+    private static final String ERRORS = "app.method.errors";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<MeterKey, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public MethodMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Object record(String layer, ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String type = typeName(joinPoint.getTarget());
+        Timer timer = timers.computeIfAbsent(new MeterKey(layer, type, method.getName()), this::timer);
+
+        long started = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            error(layer, type, method.getName(), e);
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public <T> T record(String layer, Class<?> type, String method, Supplier<T> action) {
+        Timer timer = timers.computeIfAbsent(new MeterKey(layer, type.getSimpleName(), method), this::timer);
+
+        long started = System.nanoTime();
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            error(layer, type.getSimpleName(), method, e);
+            throw e;
+        } finally {
+            timer.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(MeterKey key) {
+        return Timer.builder(TIMER)
+                .description("Execution time of instrumented service, repository and security methods")
+                .tag("layer", key.layer())
+                .tag("class", key.type())
+                .tag("method", key.method())
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry);
+    }
+
+    private void error(String layer, String type, String method, Throwable e) {
+        Counter.builder(ERRORS)
+                .description("Exceptions thrown by instrumented methods")
+                .tag("layer", layer)
+                .tag("class", type)
+                .tag("method", method)
+                .tag("exception", e.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Spring Data repositories are JDK proxies, so the useful name is the application
+    // interface they implement rather than the proxy or SimpleJpaRepository class.
+    private String typeName(Object target) {
+        if (!(target instanceof Repository<?, ?>)) {
+            return AopUtils.getTargetClass(target).getSimpleName();
+        }
+        return repositoryNames.computeIfAbsent(target.getClass(), proxyClass -> {
+            for (Class<?> candidate : AopProxyUtils.proxiedUserInterfaces(target)) {
+                if (Repository.class.isAssignableFrom(candidate)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return proxyClass.getSimpleName();
+        });
+    }
+
+    private record MeterKey(String layer, String type, String method) {
+    }
+}
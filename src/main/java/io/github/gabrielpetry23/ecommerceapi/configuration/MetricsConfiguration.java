@@ -0,0 +1,89 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+// One aspect per instrumented package, each switchable under app.metrics.instrumentation.
+// A disabled package gets no advice at all rather than a runtime check.
+@Configuration
+public class MetricsConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.instrumentation.service", havingValue = "true", matchIfMissing = true)
+    public ServiceMetricsAspect serviceMetricsAspect(MethodMetrics methodMetrics) {
+        return new ServiceMetricsAspect(methodMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.instrumentation.repository", havingValue = "true", matchIfMissing = true)
+    public RepositoryMetricsAspect repositoryMetricsAspect(MethodMetrics methodMetrics) {
+        return new RepositoryMetricsAspect(methodMetrics);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.metrics.instrumentation.security", havingValue = "true", matchIfMissing = true)
+    public SecurityMetricsAspect securityMetricsAspect(MethodMetrics methodMetrics) {
+        return new SecurityMetricsAspect(methodMetrics);
+    }
+
+    // Highest precedence so service timings include the surrounding transaction's commit.
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public static class ServiceMetricsAspect {
+
+        private final MethodMetrics methodMetrics;
+
+        ServiceMetricsAspect(MethodMetrics methodMetrics) {
+            this.methodMetrics = methodMetrics;
+        }
+
+        @Around("within(io.github.gabrielpetry23.ecommerceapi.service..*) "
+                + "&& @within(org.springframework.stereotype.Service) && execution(public * *(..))")
+        public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+            return methodMetrics.record("service", joinPoint);
+        }
+    }
+
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public static class RepositoryMetricsAspect {
+
+        private final MethodMetrics methodMetrics;
+
+        RepositoryMetricsAspect(MethodMetrics methodMetrics) {
+            this.methodMetrics = methodMetrics;
+        }
+
+        @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+        public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+            return methodMetrics.record("repository", joinPoint);
+        }
+    }
+
+    // The security beans are plain @Components, so they are matched by type. The JWT filter
+    // cannot be proxied (its entry points are final) and times itself through MethodMetrics
+    // under the same switch.
+    @Aspect
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public static class SecurityMetricsAspect {
+
+        private final MethodMetrics methodMetrics;
+
+        SecurityMetricsAspect(MethodMetrics methodMetrics) {
+            this.methodMetrics = methodMetrics;
+        }
+
+        @Around("(within(io.github.gabrielpetry23.ecommerceapi.security.SecurityService) "
+                + "|| within(io.github.gabrielpetry23.ecommerceapi.security.CustomAuthenticationProvider)) "
+                + "&& execution(public * *(..))")
+        public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+            return methodMetrics.record("security", joinPoint);
+        }
+    }
+}
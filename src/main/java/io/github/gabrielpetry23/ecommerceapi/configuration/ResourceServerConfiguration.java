@@ -2,6 +2,7 @@ package io.github.gabrielpetry23.ecommerceapi.configuration;
 
 import io.github.gabrielpetry23.ecommerceapi.security.JwtCustomAuthenticationFilter;
 import io.github.gabrielpetry23.ecommerceapi.security.LoginSocialSuccessHandler;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -44,6 +45,7 @@ public class ResourceServerConfiguration {
                     authorize.requestMatchers(HttpMethod.GET, "/categories/**").permitAll();
                     authorize.requestMatchers(HttpMethod.GET, "/products/**").permitAll();
                     authorize.requestMatchers(HttpMethod.POST, "/users").permitAll();
+                    authorize.requestMatchers(EndpointRequest.to(StatementStatisticsEndpoint.class)).hasRole("ADMIN");
 
                     authorize.anyRequest().authenticated();
                 })
@@ -57,14 +59,16 @@ public class ResourceServerConfiguration {
 
     @Bean
     public WebSecurityCustomizer webSecurityCustomizer() {
-        return web -> web.ignoring().requestMatchers
+        // sqlstats exposes query shapes and can reset them, so it goes through the ADMIN rule above
+        return web -> web.ignoring()
+                .requestMatchers(EndpointRequest.toAnyEndpoint().excluding(StatementStatisticsEndpoint.class))
+                .requestMatchers
                 ("/v3/api-docs/**",
                         "/v2/api-docs/**",
                         "/swagger-ui.html/**",
                         "/swagger-ui/**",
                         "/swagger-resources/**",
-                        "/webjars/**",
-                        "/actuator/**"
+                        "/webjars/**"
                 );
     }
 
@@ -0,0 +1,239 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Per-statement-shape counts, timings and row counts gathered at the JDBC layer, plus a
+// bounded log of slow statements. Shapes have literals replaced by ? and IN lists
+// collapsed, and slow entries only keep the Java type bound at each position, so no
+// bind value ever reaches the endpoint or the log.
+@Component
+public class StatementStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(StatementStatistics.class);
+
+    static final String OTHER = "<other>";
+
+    private final long slowThresholdNanos;
+    private final int slowLogSize;
+    private final int maxShapes;
+
+    private final Map<String, ShapeStatistics> shapes = new ConcurrentHashMap<>();
+    private final Deque<SlowStatement> slowStatements = new ArrayDeque<>();
+    private final LongAdder statements = new LongAdder();
+    private final ThreadLocal<long[]> threadCount = new ThreadLocal<>();
+
+    public StatementStatistics(@Value("${app.sql-statistics.slow-threshold:500ms}") Duration slowThreshold,
+                               @Value("${app.sql-statistics.slow-log-size:100}") int slowLogSize,
+                               @Value("${app.sql-statistics.max-shapes:1000}") int maxShapes) {
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSize = slowLogSize;
+        this.maxShapes = maxShapes;
+    }
+
+    public boolean isSlow(long nanos) {
+        return nanos >= slowThresholdNanos;
+    }
+
+    public void record(String sql, long nanos, long rows, List<String> parameterTypes, boolean failed) {
+        String shape = shape(sql);
+        statements.increment();
+        long[] count = threadCount.get();
+        if (count != null) {
+            count[0]++;
+        }
+        shapeStatistics(shape).add(nanos, rows, failed);
+
+        if (isSlow(nanos)) {
+            SlowStatement slow = new SlowStatement(Instant.now(), shape, millis(nanos), rows, parameterTypes, failed);
+            synchronized (slowStatements) {
+                if (slowStatements.size() == slowLogSize) {
+                    slowStatements.removeFirst();
+                }
+                slowStatements.addLast(slow);
+            }
+            log.warn("Slow SQL ({} ms, {} rows): {} parameters={}", slow.durationMs(), rows, shape, parameterTypes);
+        }
+    }
+
+    // Counts the statements recorded on the calling thread until endCount(); used for
+    // per-request query budgets.
+    public void beginCount() {
+        threadCount.set(new long[1]);
+    }
+
+    public long endCount() {
+        long[] count = threadCount.get();
+        threadCount.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    public Snapshot snapshot(int limit) {
+        List<ShapeSnapshot> top = shapes.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(ShapeSnapshot::totalMs).reversed())
+                .limit(limit)
+                .toList();
+        List<SlowStatement> slow;
+        synchronized (slowStatements) {
+            slow = new ArrayList<>(slowStatements);
+        }
+        return new Snapshot(statements.sum(), shapes.size(), top, slow.reversed());
+    }
+
+    public void reset() {
+        shapes.clear();
+        statements.reset();
+        synchronized (slowStatements) {
+            slowStatements.clear();
+        }
+    }
+
+    // Past max-shapes, unseen shapes share one bucket so ad-hoc SQL cannot grow the map without bound.
+    private ShapeStatistics shapeStatistics(String shape) {
+        ShapeStatistics existing = shapes.get(shape);
+        if (existing != null) {
+            return existing;
+        }
+        String key = shapes.size() < maxShapes ? shape : OTHER;
+        return shapes.computeIfAbsent(key, k -> new ShapeStatistics());
+    }
+
+    // Replaces string and numeric literals with ?, collapses runs of ? in lists to ?... and
+    // folds whitespace, so statements that differ only in values share a shape.
+    public static String shape(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty()) {
+                    out.append(' ');
+                }
+            } else if (c == '\'') {
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                appendParameter(out);
+            } else if (Character.isDigit(c) && !identifierPart(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendParameter(out);
+            } else if (c == '?') {
+                i++;
+                appendParameter(out);
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        out.setLength(end);
+        return out.toString();
+    }
+
+    private static void appendParameter(StringBuilder out) {
+        int end = out.length();
+        while (end > 0 && out.charAt(end - 1) == ' ') {
+            end--;
+        }
+        if (end > 0 && out.charAt(end - 1) == ',') {
+            int previous = end - 1;
+            while (previous > 0 && out.charAt(previous - 1) == ' ') {
+                previous--;
+            }
+            if (previous >= 4 && out.substring(previous - 4, previous).equals("?...")) {
+                out.setLength(previous);
+                return;
+            }
+            if (previous > 0 && out.charAt(previous - 1) == '?') {
+                out.setLength(previous);
+                out.append("...");
+                return;
+            }
+        }
+        out.append('?');
+    }
+
+    private static boolean identifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class ShapeStatistics {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+
+        void add(long nanos, long rowCount, boolean failed) {
+            count.increment();
+            if (failed) {
+                errors.increment();
+            }
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            rows.add(rowCount);
+        }
+
+        ShapeSnapshot snapshot(String sql) {
+            long executions = count.sum();
+            long total = totalNanos.sum();
+            return new ShapeSnapshot(sql, executions, errors.sum(), millis(total), millis(maxNanos.get()),
+                    executions == 0 ? 0 : millis(total / executions), rows.sum());
+        }
+    }
+
+    public record Snapshot(long statements, int distinctShapes, List<ShapeSnapshot> shapes,
+                           List<SlowStatement> slowStatements) {
+    }
+
+    // rows is the number read from the result set for queries and the update count for DML
+    public record ShapeSnapshot(String sql, long count, long errors, double totalMs, double maxMs,
+                                double meanMs, long rows) {
+    }
+
+    public record SlowStatement(Instant at, String sql, double durationMs, long rows,
+                                List<String> parameterTypes, boolean failed) {
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Hands out connections whose statements report to StatementStatistics. Timing covers the
+// execute call; a query is recorded once its result set is closed so the row count is known.
+class StatementStatisticsDataSource extends DelegatingDataSource {
+
+    private final StatementStatistics statistics;
+
+    StatementStatisticsDataSource(DataSource target, StatementStatistics statistics) {
+        super(target);
+        this.statistics = statistics;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection()));
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return proxy(Connection.class, new ConnectionHandler(super.getConnection(username, password)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, Handler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private abstract static class Handler implements InvocationHandler {
+
+        final Object target;
+
+        Handler(Object target) {
+            this.target = target;
+        }
+
+        // Identity semantics for the proxy itself: Hibernate keys statements and result sets in maps.
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            return switch (method.getName()) {
+                case "equals" -> proxy == args[0];
+                case "hashCode" -> System.identityHashCode(proxy);
+                default -> handle(method, args);
+            };
+        }
+
+        abstract Object handle(Method method, Object[] args) throws Throwable;
+
+        Object delegate(Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    private class ConnectionHandler extends Handler {
+
+        ConnectionHandler(Connection target) {
+            super(target);
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            return switch (method.getName()) {
+                case "prepareStatement", "prepareCall" ->
+                        proxy(method.getReturnType(), new StatementHandler(result, (String) args[0]));
+                case "createStatement" -> proxy(method.getReturnType(), new StatementHandler(result, null));
+                default -> result;
+            };
+        }
+    }
+
+    private class StatementHandler extends Handler {
+
+        private final String sql;
+        private final List<String> parameterTypes = new ArrayList<>();
+        private Execution current;
+
+        StatementHandler(Object target, String sql) {
+            super(target);
+            this.sql = sql;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            switch (name) {
+                case "executeQuery" -> {
+                    Execution execution = execute(method, args);
+                    return proxy(ResultSet.class, new ResultSetHandler(execution.result, execution));
+                }
+                case "execute" -> {
+                    Execution execution = execute(method, args);
+                    if (!(Boolean) execution.result) {
+                        execution.finish();
+                    }
+                    return execution.result;
+                }
+                case "executeUpdate", "executeLargeUpdate" -> {
+                    Execution execution = execute(method, args);
+                    execution.rows = ((Number) execution.result).longValue();
+                    execution.finish();
+                    return execution.result;
+                }
+                case "executeBatch", "executeLargeBatch" -> {
+                    Execution execution = execute(method, args);
+                    execution.rows = updateCount(execution.result);
+                    execution.finish();
+                    return execution.result;
+                }
+                case "getResultSet" -> {
+                    Object resultSet = delegate(method, args);
+                    return resultSet == null || current == null || current.finished
+                            ? resultSet
+                            : proxy(ResultSet.class, new ResultSetHandler(resultSet, current));
+                }
+                case "clearParameters" -> parameterTypes.clear();
+                case "close" -> {
+                    if (current != null) {
+                        current.finish();
+                    }
+                }
+                default -> {
+                    if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                            && PreparedStatement.class.isAssignableFrom(method.getDeclaringClass())) {
+                        bind(index, name.equals("setNull") ? null : args[1]);
+                    }
+                }
+            }
+            return delegate(method, args);
+        }
+
+        private Execution execute(Method method, Object[] args) throws Throwable {
+            if (current != null) {
+                current.finish();
+            }
+            String statementSql = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+            long started = System.nanoTime();
+            try {
+                Object result = delegate(method, args);
+                current = new Execution(statementSql, System.nanoTime() - started, result, false);
+                return current;
+            } catch (Throwable e) {
+                new Execution(statementSql, System.nanoTime() - started, null, true).finish();
+                throw e;
+            }
+        }
+
+        private void bind(int index, Object value) {
+            while (parameterTypes.size() < index) {
+                parameterTypes.add("?");
+            }
+            parameterTypes.set(index - 1, value == null ? "null" : value.getClass().getSimpleName());
+        }
+
+        private long updateCount(Object counts) {
+            long rows = 0;
+            if (counts instanceof int[] ints) {
+                for (int count : ints) {
+                    rows += Math.max(count, 0);
+                }
+            } else if (counts instanceof long[] longs) {
+                for (long count : longs) {
+                    rows += Math.max(count, 0);
+                }
+            }
+            return rows;
+        }
+
+        private class Execution {
+
+            private final String sql;
+            private final long nanos;
+            private final Object result;
+            private final boolean failed;
+            private final List<String> parameters;
+            private long rows;
+            private boolean finished;
+
+            Execution(String sql, long nanos, Object result, boolean failed) {
+                this.sql = sql;
+                this.nanos = nanos;
+                this.result = result;
+                this.failed = failed;
+                // Only slow statements keep their parameter types, copied before the next bind
+                this.parameters = statistics.isSlow(nanos) ? List.copyOf(parameterTypes) : List.of();
+            }
+
+            void finish() {
+                if (!finished && sql != null) {
+                    finished = true;
+                    statistics.record(sql, nanos, rows, parameters, failed);
+                }
+            }
+        }
+    }
+
+    private static class ResultSetHandler extends Handler {
+
+        private final StatementHandler.Execution execution;
+
+        ResultSetHandler(Object target, StatementHandler.Execution execution) {
+            super(target);
+            this.execution = execution;
+        }
+
+        @Override
+        Object handle(Method method, Object[] args) throws Throwable {
+            Object result = delegate(method, args);
+            switch (method.getName()) {
+                case "next" -> {
+                    if ((Boolean) result) {
+                        execution.rows++;
+                    }
+                }
+                case "close" -> execution.finish();
+                default -> {
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.gabrielpetry23.ecommerceapi.configuration;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+// GET /actuator/sqlstats?limit=N lists the shapes with the most total time and the recent
+// slow statements; DELETE starts a fresh measurement window.
+@Component
+@Endpoint(id = "sqlstats")
+@RequiredArgsConstructor
+public class StatementStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final StatementStatistics statistics;
+
+    @ReadOperation
+    public StatementStatistics.Snapshot statistics(@Nullable Integer limit) {
+        return statistics.snapshot(limit == null ? DEFAULT_LIMIT : limit);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        statistics.reset();
+    }
+}
@@ -67,8 +67,8 @@ public class AuthController {
                     .expiresAt(now.plusSeconds(expiresInSeconds))
                     .subject(customAuth.getName())
                     .claim("scope", scopes)
-                    .claim("email", customAuth.getUser().getEmail())
-                    .claim("userId", customAuth.getUser().getId().toString())
+                    .claim("email", customAuth.getEmail())
+                    .claim("userId", customAuth.getUserId().toString())
                     .build();
 
             String encodedJwt = jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
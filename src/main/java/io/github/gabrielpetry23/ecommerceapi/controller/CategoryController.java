@@ -1,9 +1,12 @@
 package io.github.gabrielpetry23.ecommerceapi.controller;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.common.ConditionalRequests;
+import io.github.gabrielpetry23.ecommerceapi.controller.common.QueryBudget;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.CategoryDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.CategoryMapper;
 import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
 import io.github.gabrielpetry23.ecommerceapi.service.CategoryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,11 +20,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/categories")
@@ -50,16 +53,18 @@ public class CategoryController implements GenericController{
 
     @Operation(summary = "List all categories", description = "Endpoint to retrieve all categories. Accessible to all users.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "List of categories retrieved successfully")
+            @ApiResponse(responseCode = "200", description = "List of categories retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Categories not modified since the ETag sent in If-None-Match")
     })
     @GetMapping
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<CategoryDTO>> listAll() {
-        var categories = service.findAll();
-        List<CategoryDTO> categoriesDtos = categories.stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(categoriesDtos);
+    public ResponseEntity<List<CategoryDTO>> listAll(ServletWebRequest request) {
+        CatalogVersion version = service.findCatalogVersion();
+        if (ConditionalRequests.notModified(request, version.lastModified(), version.count())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(service.findAllDTO());
     }
 
     @Operation(summary = "Get category by ID", description = "Endpoint to retrieve a specific category by its ID. Accessible to all users.")
@@ -87,6 +92,7 @@ public class CategoryController implements GenericController{
     })
     @GetMapping("/{id}/products")
     @PreAuthorize("permitAll()")
+    @QueryBudget(4)
     public ResponseEntity<List<ProductResponseDTO>> findProductsByCategory(
             @Parameter(name = "id", in = ParameterIn.PATH, description = "ID of the category to retrieve products for", required = true, schema = @Schema(type = "string", format = "uuid"))
             @PathVariable("id") String id
@@ -1,7 +1,13 @@
 package io.github.gabrielpetry23.ecommerceapi.controller;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.common.CursorCodec;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.CouponDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CouponNotificationProgressDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CursorPageResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.CouponMapper;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.service.CouponNotificationService;
 import io.github.gabrielpetry23.ecommerceapi.service.CouponService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -12,11 +18,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.net.URI;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/coupons")
@@ -25,6 +33,7 @@ import java.net.URI;
 public class CouponController implements GenericController{
 
     private final CouponService service;
+    private final CouponNotificationService couponNotificationService;
     private final CouponMapper mapper;
 
     @Operation(summary = "Create a new coupon", description = "Endpoint to create a new coupon. Requires ADMIN or MANAGER role.")
@@ -60,4 +69,37 @@ public class CouponController implements GenericController{
         Page<CouponDTO> coupons = service.findAll(page, size);
         return ResponseEntity.ok(coupons);
     }
+
+    @Operation(summary = "List all coupons with cursor pagination", description = "Endpoint to retrieve coupons newest first, one cursor page at a time, without a total count. Requires ADMIN or MANAGER role.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of coupons retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPageResponseDTO<CouponDTO>> findAllByCursor(
+            @Parameter(description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Page size (max 100)", example = "10")
+            @RequestParam(defaultValue = "10") int size) {
+        Window<Coupon> coupons = service.findAll(CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(coupons, mapper::toDTO));
+    }
+
+    @Operation(summary = "Get coupon notification progress", description = "Endpoint to follow the notification fan-out started when an active coupon is created. Requires ADMIN or MANAGER role.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Fan-out progress retrieved successfully"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "No fan-out found for this coupon")
+    })
+    @GetMapping("/{id}/notifications/progress")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CouponNotificationProgressDTO> getNotificationProgress(
+            @Parameter(description = "ID of the coupon", required = true, schema = @Schema(type = "string", format = "uuid"))
+            @PathVariable("id") String id) {
+        CouponNotificationProgressDTO progress = couponNotificationService.findProgress(UUID.fromString(id))
+                .orElseThrow(() -> new EntityNotFoundException("No notification fan-out found for this coupon"));
+        return ResponseEntity.ok(progress);
+    }
 }
@@ -1,8 +1,11 @@
 package io.github.gabrielpetry23.ecommerceapi.controller;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.common.CursorCodec;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.*;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.OrderMapper;
 import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
+import io.github.gabrielpetry23.ecommerceapi.service.IdempotencyService;
 import io.github.gabrielpetry23.ecommerceapi.service.OrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -15,6 +18,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -30,19 +34,30 @@ public class OrderController implements GenericController {
 
     private final OrderService service;
     private final OrderMapper mapper;
+    private final IdempotencyService idempotencyService;
+    private final SecurityService securityService;
 
     @Operation(summary = "Create a new order", description = "Endpoint to create a new order. Requires USER role.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Order created successfully",
                     headers = @Header(name = "Location", description = "URI of the created order", schema = @Schema(type = "string", format = "uri"))),
             @ApiResponse(responseCode = "400", description = "Invalid input data"),
-            @ApiResponse(responseCode = "403", description = "Forbidden")
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "409", description = "A request with the same Idempotency-Key is still being processed"),
+            @ApiResponse(responseCode = "422", description = "The Idempotency-Key was already used with a different body")
     })
     @PostMapping
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Object> createOrder(@RequestBody OrderRequestDTO dto) {
-        Order order = service.createOrder(dto);
-        URI location = generateHeaderLocation(order.getId());
+    public ResponseEntity<Object> createOrder(
+            @Parameter(name = IdempotencyService.HEADER, in = ParameterIn.HEADER, description = "Client-generated key; retries with the same key and body return the order created by the first attempt", schema = @Schema(type = "string", maxLength = 255))
+            @RequestHeader(name = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            @RequestBody OrderRequestDTO dto
+    ) {
+        UUID orderId = idempotencyKey == null
+                ? service.createOrder(dto).getId()
+                : idempotencyService.execute(securityService.getCurrentUserId(), idempotencyKey, dto,
+                        () -> service.createOrder(dto).getId());
+        URI location = generateHeaderLocation(orderId);
         return ResponseEntity.created(location).build();
     }
 
@@ -65,6 +80,24 @@ public class OrderController implements GenericController {
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "List all orders with cursor pagination", description = "Endpoint to retrieve orders newest first, one cursor page at a time, without a total count. Requires ADMIN or MANAGER role.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of orders retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "403", description = "Forbidden")
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPageResponseDTO<OrderResponseDTO>> listAllByCursor(
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 10, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        Window<Order> orders = service.findAll(CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(orders, mapper::toDTO));
+    }
+
     @Operation(summary = "Get order by ID", description = "Endpoint to retrieve a specific order by its ID. Requires USER, ADMIN, or MANAGER role.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Order found"),
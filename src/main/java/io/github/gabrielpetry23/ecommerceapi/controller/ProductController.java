@@ -1,10 +1,14 @@
 package io.github.gabrielpetry23.ecommerceapi.controller;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.common.ConditionalRequests;
+import io.github.gabrielpetry23.ecommerceapi.controller.common.CursorCodec;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.*;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.ProductMapper;
 import io.github.gabrielpetry23.ecommerceapi.model.Product;
 import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
 import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
+import io.github.gabrielpetry23.ecommerceapi.repository.search.ProductSearchCriteria;
 import io.github.gabrielpetry23.ecommerceapi.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,13 +21,16 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 
 import java.math.BigDecimal;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @RestController
@@ -55,6 +62,7 @@ public class ProductController implements GenericController {
     @Operation(summary = "Get product by ID", description = "Endpoint to retrieve a specific product based on its ID. Accessible to all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Product found"),
+            @ApiResponse(responseCode = "304", description = "Product not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid product ID format"),
             @ApiResponse(responseCode = "404", description = "Product not found")
     })
@@ -62,13 +70,18 @@ public class ProductController implements GenericController {
     @PreAuthorize("permitAll()")
     public ResponseEntity<ProductResponseDTO> getById(
             @Parameter(name = "id", in = ParameterIn.PATH, description = "ID of the product to retrieve", required = true, schema = @Schema(type = "string", format = "uuid"))
-            @PathVariable("id") String id
+            @PathVariable("id") String id,
+            ServletWebRequest request
     ) {
-        return service.findById(UUID.fromString(id))
-                .map(product -> {
-                    var dto = mapper.toDTO(product);
-                    return ResponseEntity.ok(dto);
-                }).orElseGet(() -> ResponseEntity.notFound().build());
+        Optional<ProductResponseDTO> product = service.findDTOById(UUID.fromString(id));
+        if (product.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (ConditionalRequests.notModified(request, null, product.get())) {
+            return null;
+        }
+
+        return ResponseEntity.ok(product.get());
     }
 
     @Operation(summary = "Update an existing product", description = "Endpoint to update the details of an existing product. Requires MANAGER or ADMIN role.")
@@ -92,6 +105,7 @@ public class ProductController implements GenericController {
     @Operation(summary = "List all products with pagination", description = "Endpoint to retrieve a paginated list of all products. Accessible to all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of products retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Catalog not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid pagination parameters")
     })
     @GetMapping
@@ -100,16 +114,40 @@ public class ProductController implements GenericController {
             @Parameter(name = "page", in = ParameterIn.QUERY, description = "Page number (default: 0)", schema = @Schema(type = "integer", minimum = "0"))
             @RequestParam(value = "page", defaultValue = "0") int page,
             @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 10)", schema = @Schema(type = "integer", minimum = "1"))
-            @RequestParam(value = "size", defaultValue = "10") int size
+            @RequestParam(value = "size", defaultValue = "10") int size,
+            ServletWebRequest request
     ) {
+        CatalogVersion version = service.findCatalogVersion();
+        if (ConditionalRequests.notModified(request, version.lastModified(), version.count(), page, size)) {
+            return null;
+        }
+
         Page<Product> productsPage = service.listAll(page, size);
-        Page<ProductResponseDTO> dtoPage = productsPage.map(mapper::toDTO);
+        Page<ProductResponseDTO> dtoPage = productsPage.map(mapper.toDTOBatch(productsPage.getContent()));
         return ResponseEntity.ok(dtoPage);
     }
 
+    @Operation(summary = "List all products with cursor pagination", description = "Endpoint to retrieve products newest first, one cursor page at a time. No total count is computed, so every page costs the same at any depth. Accessible to all users.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of products retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<CursorPageResponseDTO<ProductResponseDTO>> listAllByCursor(
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 10, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        Window<Product> products = service.listAll(CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(products, mapper.toDTOBatch(products.getContent())));
+    }
+
     @Operation(summary = "Search products with optional filters", description = "Endpoint to search for products based on various criteria. Accessible to all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of products matching the search criteria"),
+            @ApiResponse(responseCode = "304", description = "Catalog not modified since the ETag sent in If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Invalid search parameters")
     })
     @GetMapping("/search")
@@ -132,13 +170,40 @@ public class ProductController implements GenericController {
             @Parameter(name = "page", in = ParameterIn.QUERY, description = "Page number (default: 0)", schema = @Schema(type = "integer", minimum = "0"))
             @RequestParam(value = "page", defaultValue = "0") Integer page,
             @Parameter(name = "pageSize", in = ParameterIn.QUERY, description = "Number of items per page (default: 10)", schema = @Schema(type = "integer", minimum = "1"))
-            @RequestParam(value = "pageSize", defaultValue = "10") Integer pageSize
+            @RequestParam(value = "pageSize", defaultValue = "10") Integer pageSize,
+            @Parameter(name = "engine", in = ParameterIn.QUERY, description = "Search engine: spec or fulltext (ranked, PostgreSQL only; falls back to spec elsewhere)")
+            @RequestParam(value = "engine", required = false) String engine,
+            ServletWebRequest request
     ) {
-        Page<Product> products = service.search(name, categoryName, description, price, maxPrice, minPrice, stock, page, pageSize);
-        Page<ProductResponseDTO> dtos = products.map(mapper::toDTO);
+        ProductSearchCriteria criteria = new ProductSearchCriteria(name, categoryName, description, price, maxPrice, minPrice, stock);
+        CatalogVersion version = service.findCatalogVersion();
+        if (ConditionalRequests.notModified(request, version.lastModified(), version.count(), criteria, page, pageSize, engine)) {
+            return null;
+        }
+
+        Page<Product> products = service.search(engine, criteria, page, pageSize);
+        Page<ProductResponseDTO> dtos = products.map(mapper.toDTOBatch(products.getContent()));
         return ResponseEntity.ok(dtos);
     }
 
+    @Operation(summary = "Autocomplete product names", description = "Endpoint to suggest product names starting with the given prefix. Accessible to all users.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of suggested product names"),
+            @ApiResponse(responseCode = "400", description = "Invalid search parameters")
+    })
+    @GetMapping("/autocomplete")
+    @PreAuthorize("permitAll()")
+    public ResponseEntity<List<String>> autocomplete(
+            @Parameter(name = "prefix", in = ParameterIn.QUERY, description = "Beginning of the product name", required = true)
+            @RequestParam(value = "prefix") String prefix,
+            @Parameter(name = "limit", in = ParameterIn.QUERY, description = "Maximum number of suggestions (default: 10)", schema = @Schema(type = "integer", minimum = "1", maximum = "50"))
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit,
+            @Parameter(name = "engine", in = ParameterIn.QUERY, description = "Search engine: spec or fulltext")
+            @RequestParam(value = "engine", required = false) String engine
+    ) {
+        return ResponseEntity.ok(service.autocomplete(engine, prefix, Math.clamp(limit, 1, 50)));
+    }
+
     @Operation(summary = "Delete a product by ID", description = "Endpoint to delete a specific product based on its ID. Requires MANAGER or ADMIN role.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "Product deleted successfully"),
@@ -179,7 +244,7 @@ public class ProductController implements GenericController {
         return ResponseEntity.created(location).build();
     }
 
-    @Operation(summary = "Get all reviews for a product", description = "Endpoint to retrieve all reviews associated with a specific product. Accessible to all users.")
+    @Operation(summary = "Get reviews for a product", description = "Endpoint to retrieve the reviews of a specific product, newest first and one page at a time. Rating count, average and histogram are part of the product itself. Accessible to all users.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "List of reviews retrieved successfully"),
             @ApiResponse(responseCode = "400", description = "Invalid product ID format"),
@@ -187,11 +252,15 @@ public class ProductController implements GenericController {
     })
     @GetMapping("/{id}/reviews")
     @PreAuthorize("permitAll()")
-    public ResponseEntity<List<ProductReviewResponseDTO>> getReviews(
+    public ResponseEntity<Page<ProductReviewResponseDTO>> getReviews(
             @Parameter(name = "id", in = ParameterIn.PATH, description = "ID of the product to get reviews for", required = true, schema = @Schema(type = "string", format = "uuid"))
-            @PathVariable("id") String id
+            @PathVariable("id") String id,
+            @Parameter(name = "page", in = ParameterIn.QUERY, description = "Page number (default: 0)", schema = @Schema(type = "integer", minimum = "0"))
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of reviews per page (default: 10, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "10") int size
     ) {
-        List<ProductReviewResponseDTO> reviewsDto = service.findAllProductReviewsDTOByProductId(id);
+        Page<ProductReviewResponseDTO> reviewsDto = service.findAllProductReviewsDTOByProductId(id, Math.max(page, 0), Math.clamp(size, 1, 100));
         return ResponseEntity.ok(reviewsDto);
     }
 
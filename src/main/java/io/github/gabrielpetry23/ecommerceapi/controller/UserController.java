@@ -1,5 +1,7 @@
 package io.github.gabrielpetry23.ecommerceapi.controller;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.common.CursorCodec;
+import io.github.gabrielpetry23.ecommerceapi.controller.common.QueryBudget;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.*;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.UserMapper;
 import io.github.gabrielpetry23.ecommerceapi.model.*;
@@ -15,6 +17,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -22,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 import java.net.URI;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/users")
@@ -87,6 +91,25 @@ public class UserController implements GenericController {
         return ResponseEntity.ok(dtos);
     }
 
+    @Operation(summary = "List Users (cursor)", description = "Endpoint to list users newest first, one cursor page at a time, without a total count. Requires MANAGER or ADMIN role.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page of users"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('MANAGER', 'ADMIN')")
+    public ResponseEntity<CursorPageResponseDTO<UserDetailsDTO>> getAllByCursor(
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 10, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "10") int size
+    ) {
+        Window<User> users = service.findAll(CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(users, mapper::toDTO));
+    }
+
     @Operation(summary = "Update User", description = "Endpoint to update user data. Requires MANAGER or ADMIN role.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "User updated successfully"),
@@ -152,6 +175,7 @@ public class UserController implements GenericController {
     })
     @GetMapping("/{userId}/addresses")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'MANAGER')")
+    @QueryBudget(4)
     public ResponseEntity<List<AddressDTO>> getAddresses(
             @Parameter(name = "id", in = ParameterIn.PATH, description = "ID of the user to get addresses for", required = true, schema = @Schema(type = "string", format = "uuid"))
             @PathVariable("userId") String userId) {
@@ -325,6 +349,7 @@ public class UserController implements GenericController {
     })
     @GetMapping("/{userId}/orders")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'MANAGER')")
+    @QueryBudget(5)
     public ResponseEntity<Page<OrderResponseDTO>> getOrders(
             @Parameter(name = "userId", in = ParameterIn.PATH, description = "ID of the user to get orders for", required = true, schema = @Schema(type = "string", format = "uuid"))
             @PathVariable("userId") String userId,
@@ -338,36 +363,61 @@ public class UserController implements GenericController {
     }
 
 
-    @Operation(summary = "List User Notifications", description = "Endpoint to list all notifications of a user. Requires USER, ADMIN, or MANAGER role.")
+    @Operation(summary = "List User Notifications", description = "Endpoint to list the notifications of a user newest first, one cursor page at a time. Requires USER, ADMIN, or MANAGER role.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "List of user notifications"),
+            @ApiResponse(responseCode = "200", description = "Page of user notifications"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/{userId}/notifications")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'MANAGER')")
-    public ResponseEntity<List<NotificationResponseDTO>> getNotifications(
+    public ResponseEntity<CursorPageResponseDTO<NotificationResponseDTO>> getNotifications(
             @Parameter(name = "userId", in = ParameterIn.PATH, description = "ID of the user to get notifications for", required = true, schema = @Schema(type = "string", format = "uuid"))
-            @PathVariable("userId") String userId) {
-        List<NotificationResponseDTO> notificationsDTO = service.findAllNotificationsByUserId(userId);
-        return ResponseEntity.ok(notificationsDTO);
+            @PathVariable("userId") String userId,
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 20, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Window<NotificationResponseDTO> notifications = service.findNotificationsByUserId(userId, false, CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(notifications, Function.identity()));
     }
 
-    @Operation(summary = "List User Unread Notifications", description = "Endpoint to list all unread notifications of a user. Requires USER, ADMIN, or MANAGER role.")
+    @Operation(summary = "List User Unread Notifications", description = "Endpoint to list the unread notifications of a user newest first, one cursor page at a time. Requires USER, ADMIN, or MANAGER role.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "List of unread user notifications"),
+            @ApiResponse(responseCode = "200", description = "Page of unread user notifications"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
             @ApiResponse(responseCode = "401", description = "Unauthorized"),
             @ApiResponse(responseCode = "403", description = "Forbidden"),
             @ApiResponse(responseCode = "404", description = "User not found")
     })
     @GetMapping("/{userId}/notifications/unread")
     @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'MANAGER')")
-    public ResponseEntity<List<NotificationResponseDTO>> getUnreadNotifications(
+    public ResponseEntity<CursorPageResponseDTO<NotificationResponseDTO>> getUnreadNotifications(
             @Parameter(name = "userId", in = ParameterIn.PATH, description = "ID of the user to get unread notifications for", required = true, schema = @Schema(type = "string", format = "uuid"))
+            @PathVariable("userId") String userId,
+            @Parameter(name = "cursor", in = ParameterIn.QUERY, description = "Opaque cursor returned as nextCursor by the previous page; omit for the first page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(name = "size", in = ParameterIn.QUERY, description = "Number of items per page (default: 20, max: 100)", schema = @Schema(type = "integer", minimum = "1", maximum = "100"))
+            @RequestParam(value = "size", defaultValue = "20") int size) {
+        Window<NotificationResponseDTO> notifications = service.findNotificationsByUserId(userId, true, CursorCodec.decode(cursor), Math.clamp(size, 1, 100));
+        return ResponseEntity.ok(CursorCodec.toResponse(notifications, Function.identity()));
+    }
+
+    @Operation(summary = "Count User Unread Notifications", description = "Endpoint to get the number of unread notifications of a user. Requires USER, ADMIN, or MANAGER role.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Unread notification count"),
+            @ApiResponse(responseCode = "401", description = "Unauthorized"),
+            @ApiResponse(responseCode = "403", description = "Forbidden"),
+            @ApiResponse(responseCode = "404", description = "User not found")
+    })
+    @GetMapping("/{userId}/notifications/unread-count")
+    @PreAuthorize("hasAnyRole('USER', 'ADMIN', 'MANAGER')")
+    public ResponseEntity<NotificationCountDTO> getUnreadNotificationCount(
+            @Parameter(name = "userId", in = ParameterIn.PATH, description = "ID of the user to count unread notifications for", required = true, schema = @Schema(type = "string", format = "uuid"))
             @PathVariable("userId") String userId) {
-        List<NotificationResponseDTO> notificationsDTO = service.findAllUnreadNotificationsByUserId(userId);
-        return ResponseEntity.ok(notificationsDTO);
+        return ResponseEntity.ok(service.countUnreadNotificationsByUserId(userId));
     }
 
     @Operation(summary = "Mark All Notifications as Read", description = "Endpoint to mark all notifications of a user as read. Requires USER, ADMIN, or MANAGER role.")
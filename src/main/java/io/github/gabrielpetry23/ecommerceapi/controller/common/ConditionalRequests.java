@@ -0,0 +1,42 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.common;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+// Strong validators for the public catalog endpoints. The ETag is derived from the cached
+// catalog version plus the request parameters, or from the cached DTO itself, so a matching
+// If-None-Match is answered with 304 without touching the database.
+public final class ConditionalRequests {
+
+    private static final String CACHE_CONTROL = CacheControl.noCache().cachePublic().getHeaderValue();
+
+    private ConditionalRequests() {
+    }
+
+    public static boolean notModified(ServletWebRequest request, LocalDateTime lastModified, Object... parts) {
+        HttpServletResponse response = request.getResponse();
+        if (response != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        }
+
+        String etag = etag(lastModified, parts);
+        if (lastModified == null) {
+            return request.checkNotModified(etag);
+        }
+        return request.checkNotModified(etag, lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+    }
+
+    private static String etag(LocalDateTime lastModified, Object... parts) {
+        String key = Arrays.stream(parts).map(String::valueOf).collect(Collectors.joining("|", lastModified + "|", ""));
+        return "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
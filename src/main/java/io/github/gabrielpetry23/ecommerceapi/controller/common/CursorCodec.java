@@ -0,0 +1,56 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.common;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CursorPageResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.InvalidFieldException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+// Opaque cursors over the (createdAt, id) keyset used by the /cursor listings.
+public final class CursorCodec {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final String SEPARATOR = "|";
+
+    private CursorCodec() {
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put(CREATED_AT, LocalDateTime.parse(raw.substring(0, separator)));
+            keys.put(ID, UUID.fromString(raw.substring(separator + 1)));
+            return ScrollPosition.forward(keys);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new InvalidFieldException("cursor", "Invalid cursor");
+        }
+    }
+
+    public static <T, R> CursorPageResponseDTO<R> toResponse(Window<T> window, Function<T, R> mapper) {
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode((KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPageResponseDTO<>(window.map(mapper).getContent(), window.size(), window.hasNext(), nextCursor);
+    }
+
+    private static String encode(KeysetScrollPosition position) {
+        Map<String, Object> keys = position.getKeys();
+        String raw = keys.get(CREATED_AT) + SEPARATOR + keys.get(ID);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -37,6 +37,24 @@ public class GlobalExceptionHandler {
         return ResponseError.conflict(ex.getMessage());
     }
 
+    @ExceptionHandler(InsufficientStockException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseError handleInsufficientStockException(InsufficientStockException ex) {
+        return ResponseError.conflict(ex.getMessage());
+    }
+
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ResponseError handleIdempotentRequestInProgressException(IdempotentRequestInProgressException ex) {
+        return ResponseError.conflict(ex.getMessage());
+    }
+
+    @ExceptionHandler(IdempotencyKeyMismatchException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    public ResponseError handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException ex) {
+        return new ResponseError(HttpStatus.UNPROCESSABLE_ENTITY.value(), ex.getMessage(), List.of());
+    }
+
     @ExceptionHandler(OperationNotAllowedException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ResponseError handleOperationNotAllowed(OperationNotAllowedException ex) {
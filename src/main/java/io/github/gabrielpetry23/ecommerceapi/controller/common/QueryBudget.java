@@ -0,0 +1,15 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.common;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maximum number of SQL statements one request to the annotated handler may run, counted
+// by QueryBudgetFilter over the whole request, authentication included.
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
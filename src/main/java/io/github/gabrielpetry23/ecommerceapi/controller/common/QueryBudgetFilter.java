@@ -0,0 +1,109 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.common;
+
+import io.github.gabrielpetry23.ecommerceapi.configuration.StatementStatistics;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.QueryBudgetExceededException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+
+// Counts the statements each request runs, from before the security chain to the end of
+// serialization. With app.query-budget.header on (dev and test) the body is buffered so the
+// count can go out in X-Query-Count. A handler over its @QueryBudget is logged, or rejected
+// when app.query-budget.enforce is on, which is how tests catch new N+1 patterns.
+// Async requests finish on other threads the count cannot see, so they get neither header
+// nor budget check; their buffered body is flushed by the last async dispatch.
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-Query-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final StatementStatistics statistics;
+    private final boolean header;
+    private final boolean enforce;
+
+    public QueryBudgetFilter(StatementStatistics statistics,
+                             @Value("${app.query-budget.header:false}") boolean header,
+                             @Value("${app.query-budget.enforce:false}") boolean enforce) {
+        this.statistics = statistics;
+        this.header = header;
+        this.enforce = enforce;
+    }
+
+    // SockJS transports stream frames for the life of the session
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return path.equals("/ws") || path.startsWith("/ws/");
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (isAsyncDispatch(request)) {
+            filterChain.doFilter(request, response);
+            if (!request.isAsyncStarted()) {
+                ContentCachingResponseWrapper buffered = WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class);
+                if (buffered != null) {
+                    buffered.copyBodyToResponse();
+                }
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper buffered = header ? new ContentCachingResponseWrapper(response) : null;
+
+        long queries;
+        statistics.beginCount();
+        try {
+            filterChain.doFilter(request, buffered == null ? response : buffered);
+        } finally {
+            queries = statistics.endCount();
+        }
+
+        if (request.isAsyncStarted()) {
+            return;
+        }
+
+        QueryBudget budget = budget(request);
+        if (budget != null && queries > budget.value()) {
+            String message = "%s %s ran %d statements, over its budget of %d"
+                    .formatted(request.getMethod(), request.getRequestURI(), queries, budget.value());
+            if (enforce) {
+                throw new QueryBudgetExceededException(message);
+            }
+            log.warn(message);
+        }
+
+        if (buffered != null) {
+            buffered.setHeader(HEADER, Long.toString(queries));
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private QueryBudget budget(HttpServletRequest request) {
+        return request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler
+                ? handler.getMethodAnnotation(QueryBudget.class)
+                : null;
+    }
+}
@@ -0,0 +1,13 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record CouponNotificationProgressDTO(
+        UUID couponId,
+        String status,
+        long notifiedUsers,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {
+}
@@ -0,0 +1,11 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.dto;
+
+import java.util.List;
+
+public record CursorPageResponseDTO<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+}
@@ -0,0 +1,4 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.dto;
+
+public record NotificationCountDTO(int unread) {
+}
@@ -0,0 +1,11 @@
+package io.github.gabrielpetry23.ecommerceapi.controller.dto;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+public record ProductRatingDTO(
+        int reviewCount,
+        BigDecimal average,
+        Map<Integer, Long> histogram
+) {
+}
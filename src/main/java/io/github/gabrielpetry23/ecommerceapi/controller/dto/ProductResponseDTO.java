@@ -9,7 +9,7 @@ public record ProductResponseDTO(
         BigDecimal price,
         CategoryDTO category,
         List<ProductImageDTO> images,
-        List<ProductReviewResponseDTO> reviews,
+        ProductRatingDTO rating,
         Integer stock
 ) {
 }
\ No newline at end of file
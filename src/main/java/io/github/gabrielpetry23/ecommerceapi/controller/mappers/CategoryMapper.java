@@ -11,5 +11,6 @@ public interface CategoryMapper {
     CategoryDTO toDTO(Category category);
 
     @Mapping(target = "products", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
     Category toEntity(CategoryDTO categoryDTO);
 }
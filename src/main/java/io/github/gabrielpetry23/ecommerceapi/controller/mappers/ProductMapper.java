@@ -3,14 +3,25 @@ package io.github.gabrielpetry23.ecommerceapi.controller.mappers;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.*;
 import io.github.gabrielpetry23.ecommerceapi.model.Product;
 import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductRatingBucket;
 import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
 import io.github.gabrielpetry23.ecommerceapi.repository.CategoryRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductImageRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRatingBucketRepository;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Mapper(componentModel = "spring", uses = CategoryMapper.class)
 public abstract class ProductMapper {
@@ -18,7 +29,15 @@ public abstract class ProductMapper {
     @Autowired
     CategoryRepository categoryRepository;
 
+    @Autowired
+    ProductImageRepository productImageRepository;
+
+    @Autowired
+    ProductRatingBucketRepository productRatingBucketRepository;
+
     @Mapping(target = "reviews", ignore = true)
+    @Mapping(target = "reviewCount", ignore = true)
+    @Mapping(target = "ratingSum", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
     @Mapping(target = "id", ignore = true)
@@ -27,11 +46,16 @@ public abstract class ProductMapper {
     @Mapping(target = "images", ignore = true)
     public abstract Product toEntity(ProductRequestDTO dto);
 
+    // Every product read goes through here with its images and rating buckets preloaded,
+    // keyed by product id; use toDTOBatch to load them.
     @Mapping(source = "category.id", target = "category.id")
     @Mapping(source = "category.name", target = "category.name")
     @Mapping(source = "name", target = "name")
-    @Mapping(source = "images", target = "images", qualifiedByName = "mapImages")
-    public abstract ProductResponseDTO toDTO(Product entity);
+    @Mapping(target = "images", expression = "java(mapImages(images.getOrDefault(entity.getId(), java.util.List.of())))")
+    @Mapping(target = "rating", expression = "java(toRatingDTO(entity, buckets.getOrDefault(entity.getId(), java.util.List.of())))")
+    public abstract ProductResponseDTO toDTO(Product entity,
+                                             @Context Map<UUID, List<ProductImage>> images,
+                                             @Context Map<UUID, List<ProductRatingBucket>> buckets);
 
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "product", ignore = true)
@@ -47,6 +71,38 @@ public abstract class ProductMapper {
     @Mapping(source = "main", target = "isMain")
     public abstract ProductImageDTO toImageDTO(ProductImage image);
 
+    // Listing read path: images and rating histograms for the whole page are loaded with
+    // one query each instead of one lazy load per product. Expects category to be fetched.
+    public Function<Product, ProductResponseDTO> toDTOBatch(List<Product> products) {
+        if (products.isEmpty()) {
+            return product -> toDTO(product, Map.of(), Map.of());
+        }
+
+        List<UUID> ids = products.stream().map(Product::getId).distinct().toList();
+        Map<UUID, List<ProductImage>> images = productImageRepository.findAllByProductIdIn(ids).stream()
+                .collect(Collectors.groupingBy(image -> image.getProduct().getId()));
+        Map<UUID, List<ProductRatingBucket>> buckets = productRatingBucketRepository.findAllByProductIdIn(ids).stream()
+                .collect(Collectors.groupingBy(ProductRatingBucket::getProductId));
+
+        Map<UUID, ProductResponseDTO> dtos = products.stream().collect(Collectors.toMap(
+                Product::getId,
+                product -> toDTO(product, images, buckets),
+                (first, second) -> first));
+        return product -> dtos.get(product.getId());
+    }
+
+    public ProductRatingDTO toRatingDTO(Product product, List<ProductRatingBucket> buckets) {
+        Map<Integer, Long> histogram = new TreeMap<>();
+        buckets.stream()
+                .filter(bucket -> bucket.getReviewCount() > 0)
+                .forEach(bucket -> histogram.put(bucket.getRating(), bucket.getReviewCount()));
+
+        BigDecimal average = product.getReviewCount() > 0
+                ? BigDecimal.valueOf(product.getRatingSum()).divide(BigDecimal.valueOf(product.getReviewCount()), 2, RoundingMode.HALF_UP)
+                : null;
+        return new ProductRatingDTO(product.getReviewCount(), average, histogram);
+    }
+
     @Named("mapImages")
     public List<ProductImageDTO> mapImages(List<ProductImage> images) {
         return images.stream()
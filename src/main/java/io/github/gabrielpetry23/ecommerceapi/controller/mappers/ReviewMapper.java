@@ -3,6 +3,7 @@ package io.github.gabrielpetry23.ecommerceapi.controller.mappers;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductReviewDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductReviewResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.ProductReviewSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -13,6 +14,10 @@ public interface ReviewMapper {
     @Mapping(source = "user.name", target = "user.name")
     ProductReviewResponseDTO toDTO(ProductReview productReview);
 
+    @Mapping(source = "userId", target = "user.id")
+    @Mapping(source = "userName", target = "user.name")
+    ProductReviewResponseDTO toDTO(ProductReviewSummary summary);
+
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "product", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
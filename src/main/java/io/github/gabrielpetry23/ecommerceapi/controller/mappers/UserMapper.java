@@ -18,6 +18,7 @@ public interface UserMapper {
     @Mapping(target = "paymentMethods", ignore = true)
     @Mapping(target = "addresses", ignore = true)
     @Mapping(target = "notifications", ignore = true)
+    @Mapping(target = "unreadNotificationCount", ignore = true)
     User toEntity(UserDTO dto);
 
     @Mapping(source = "cart", target = "cart")
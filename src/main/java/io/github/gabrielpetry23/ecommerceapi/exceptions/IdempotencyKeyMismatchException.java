@@ -0,0 +1,7 @@
+package io.github.gabrielpetry23.ecommerceapi.exceptions;
+
+public class IdempotencyKeyMismatchException extends RuntimeException {
+    public IdempotencyKeyMismatchException(String message) {
+        super(message);
+    }
+}
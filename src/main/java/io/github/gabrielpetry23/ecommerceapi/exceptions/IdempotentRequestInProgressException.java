@@ -0,0 +1,7 @@
+package io.github.gabrielpetry23.ecommerceapi.exceptions;
+
+public class IdempotentRequestInProgressException extends RuntimeException {
+    public IdempotentRequestInProgressException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.gabrielpetry23.ecommerceapi.exceptions;
+
+public class InsufficientStockException extends RuntimeException {
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.gabrielpetry23.ecommerceapi.exceptions;
+
+public class QueryBudgetExceededException extends RuntimeException {
+    public QueryBudgetExceededException(String message) {
+        super(message);
+    }
+}
@@ -13,7 +13,7 @@ import java.util.UUID;
 @ToString(exclude = {"user"})
 public class Address {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne
@@ -15,7 +15,7 @@ import java.util.UUID;
 @ToString(exclude = {"cart", "product"})
 public class CartItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne
@@ -4,18 +4,22 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.ToString;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
 @Table(name = "categories")
 @Data
+@EntityListeners(AuditingEntityListener.class)
 @ToString(exclude = {"products"})
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(unique = true, nullable = false)
@@ -24,4 +28,7 @@ public class Category {
     @OneToMany(mappedBy = "category")
     @JsonManagedReference
     private List<Product> products;
+
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
 }
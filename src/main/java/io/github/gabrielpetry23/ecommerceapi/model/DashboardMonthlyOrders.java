@@ -0,0 +1,17 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Entity
+@Table(name = "dashboard_monthly_orders")
+@Data
+public class DashboardMonthlyOrders {
+    @Id
+    private LocalDate period; // first day of the month
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+}
@@ -0,0 +1,20 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "dashboard_product_sales", indexes = {
+        @Index(name = "idx_dashboard_product_sales_units_sold", columnList = "units_sold")
+})
+@Data
+public class DashboardProductSales {
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Column(name = "units_sold", nullable = false)
+    private Long unitsSold;
+}
@@ -0,0 +1,15 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+@Entity
+@Table(name = "dashboard_rollup_state")
+@Data
+public class DashboardRollupState {
+    @Id
+    private Integer id; // single row, id 1
+
+    @Column(nullable = false)
+    private Long generation; // bumped by every reconciliation
+}
@@ -0,0 +1,22 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Entity
+@Table(name = "dashboard_status_revenue")
+@Data
+public class DashboardStatusRevenue {
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 50)
+    private OrderStatus status;
+
+    @Column(name = "order_count", nullable = false)
+    private Long orderCount;
+
+    @Column(nullable = false, precision = 18, scale = 2)
+    private BigDecimal revenue;
+}
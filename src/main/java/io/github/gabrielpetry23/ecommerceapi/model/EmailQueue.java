@@ -15,7 +15,7 @@ import java.util.UUID;
 @EntityListeners(AuditingEntityListener.class)
 public class EmailQueue {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @Column(name = "recipient_email", nullable = false, length = 255)
@@ -24,7 +24,7 @@ public class EmailQueue {
     @Column(nullable = false, length = 255)
     private String subject;
 
-    @Column(nullable = false)
+    @Column(nullable = false, columnDefinition = "TEXT")
     private String body;
 
     @Enumerated(EnumType.STRING)
@@ -37,7 +37,7 @@ public class EmailQueue {
     @Column(name = "last_attempt_at")
     private LocalDateTime lastAttemptAt;
 
-    @Column(name = "error_message")
+    @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
 
     @CreatedDate
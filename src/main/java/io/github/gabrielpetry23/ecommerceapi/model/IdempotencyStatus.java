@@ -0,0 +1,6 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -19,7 +19,7 @@ import java.util.UUID;
 //@ToString(exclude = {"user", "items"})
 public class Order {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
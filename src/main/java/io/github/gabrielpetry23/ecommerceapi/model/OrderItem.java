@@ -14,7 +14,7 @@ import java.util.UUID;
 @ToString(exclude = {"order", "product"})
 public class OrderItem {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -23,7 +24,7 @@ import java.util.UUID;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     private String name;
@@ -34,6 +35,15 @@ public class Product {
 
     private Integer stock;
 
+    // Maintained by ProductRatingService with in-place increments, never written from the entity.
+    @Column(name = "review_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int reviewCount;
+
+    @Column(name = "rating_sum", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private long ratingSum;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "category_id")
     @JsonBackReference
@@ -53,7 +63,7 @@ public class Product {
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 }
@@ -15,7 +15,7 @@ import java.util.UUID;
 @ToString(exclude = {"product"})
 public class ProductImage {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
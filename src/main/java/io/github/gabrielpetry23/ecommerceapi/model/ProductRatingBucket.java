@@ -0,0 +1,35 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+@Entity
+@Table(name = "product_rating_buckets")
+@IdClass(ProductRatingBucket.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRatingBucket {
+    @Id
+    @Column(name = "product_id")
+    private UUID productId;
+
+    @Id
+    private Integer rating;
+
+    @Column(name = "review_count", nullable = false)
+    private Long reviewCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private UUID productId;
+        private Integer rating;
+    }
+}
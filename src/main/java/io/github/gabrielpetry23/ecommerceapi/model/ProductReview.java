@@ -18,7 +18,7 @@ import java.util.UUID;
 @ToString(exclude = {"product", "user"})
 public class ProductReview {
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,16 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Assigns a time-ordered UUIDv7 before insert, so new rows land at the right-hand
+// edge of the primary key index instead of at random pages.
+@IdGeneratorType(TimeOrderedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeOrderedId {
+}
@@ -0,0 +1,56 @@
+package io.github.gabrielpetry23.ecommerceapi.model;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.security.SecureRandom;
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+// RFC 9562 UUIDv7: 48-bit Unix millisecond timestamp, then a 12-bit counter that keeps
+// ids generated within the same millisecond in order, then 62 random bits.
+public class TimeOrderedIdGenerator implements BeforeExecutionGenerator {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final int MAX_COUNTER = 0xFFF;
+
+    private static long lastMillis;
+    private static int counter;
+
+    public static UUID next() {
+        long millis;
+        int sequence;
+        synchronized (TimeOrderedIdGenerator.class) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                // Start in the lower half so a burst has room to count up.
+                counter = RANDOM.nextInt(MAX_COUNTER / 2);
+            } else if (counter == MAX_COUNTER) {
+                lastMillis++;
+                counter = 0;
+            } else {
+                counter++;
+            }
+            millis = lastMillis;
+            sequence = counter;
+        }
+
+        long msb = (millis << 16) | 0x7000L | sequence;
+        long lsb = (RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        return next();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return INSERT_ONLY;
+    }
+}
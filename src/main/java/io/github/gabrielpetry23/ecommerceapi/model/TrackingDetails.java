@@ -17,7 +17,7 @@ import java.util.UUID;
 public class TrackingDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     @OneToOne(fetch = FetchType.LAZY)
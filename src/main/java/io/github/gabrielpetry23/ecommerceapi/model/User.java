@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.ToString;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -22,7 +23,7 @@ import java.util.UUID;
 public class User {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedId
     private UUID id;
 
     private String name;
@@ -34,10 +35,15 @@ public class User {
 
     private String role = "USER";
 
-    @LastModifiedDate
-    private LocalDateTime createdAt;
+    // Maintained by NotificationService with in-place increments, never written from the entity.
+    @Column(name = "unread_notification_count", nullable = false, insertable = false, updatable = false)
+    @ColumnDefault("0")
+    private int unreadNotificationCount;
 
     @CreatedDate
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
     private LocalDateTime updatedAt;
 
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -2,7 +2,11 @@ package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.Cart;
 import io.github.gabrielpetry23.ecommerceapi.model.CartItem;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CartReminderCandidate;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CheckoutContext;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,13 +18,34 @@ import java.util.UUID;
 public interface CartRepository extends JpaRepository<Cart, UUID> {
     Optional<Cart> findByUserId(UUID userId);
     List<Cart> findByUpdatedAtBeforeAndUserIsNotNull(LocalDateTime twentyFourHoursAgo);
-    @Query("SELECT c FROM Cart c WHERE " +
+    @Query("SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.CartReminderCandidate(c.id, c.user.id, COUNT(i)) " +
+            "FROM Cart c JOIN c.items i WHERE " +
+            "c.id > :afterId AND " +
             "c.updatedAt < :abandonedThreshold AND " +
-            "c.user IS NOT NULL AND " +
-            "(c.lastReminderSentAt IS NULL OR c.lastReminderSentAt < :reminderCooldownThreshold) AND " +
-            "SIZE(c.items) > 0")
-    List<Cart> findAbandonedCartsEligibleForReminder(
+            "(c.lastReminderSentAt IS NULL OR c.lastReminderSentAt < :reminderCooldownThreshold) " +
+            "GROUP BY c.id, c.user.id ORDER BY c.id")
+    List<CartReminderCandidate> findReminderCandidatesAfter(
+            @Param("afterId") UUID afterId,
             @Param("abandonedThreshold") LocalDateTime abandonedThreshold,
-            @Param("reminderCooldownThreshold") LocalDateTime reminderCooldownThreshold
+            @Param("reminderCooldownThreshold") LocalDateTime reminderCooldownThreshold,
+            Pageable pageable
     );
+
+    // The user's cart with its owner, items and their products, plus the requested address and
+    // payment method, so checkout validates and builds the order from one query
+    @Query("SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.CheckoutContext(c, a, pm) " +
+            "FROM Cart c JOIN FETCH c.user " +
+            "LEFT JOIN FETCH c.items i LEFT JOIN FETCH i.product " +
+            "LEFT JOIN Address a ON a.id = :addressId " +
+            "LEFT JOIN PaymentMethod pm ON pm.id = :paymentMethodId " +
+            "WHERE c.user.id = :userId")
+    List<CheckoutContext> findCheckoutContext(
+            @Param("userId") UUID userId,
+            @Param("addressId") UUID addressId,
+            @Param("paymentMethodId") UUID paymentMethodId
+    );
+
+    @Modifying
+    @Query("UPDATE Cart c SET c.lastReminderSentAt = :sentAt WHERE c.id IN :ids")
+    int markReminderSent(@Param("ids") List<UUID> ids, @Param("sentAt") LocalDateTime sentAt);
 }
@@ -1,11 +1,16 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface CategoryRepository extends JpaRepository<Category, UUID> {
     Optional<Category> findByName(String name);
+
+    @Query("SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion(COUNT(c), MAX(c.updatedAt)) FROM Category c")
+    CatalogVersion findCatalogVersion();
 }
@@ -1,6 +1,9 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
@@ -8,4 +11,6 @@ import java.util.UUID;
 
 public interface CouponRepository extends JpaRepository<Coupon, UUID> {
     Optional<Coupon> findByCode(String code);
+
+    Window<Coupon> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package io.github.gabrielpetry23.ecommerceapi.repository;
+
+import io.github.gabrielpetry23.ecommerceapi.model.EmailQueue;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface EmailQueueRepository extends JpaRepository<EmailQueue, UUID> {
+}
@@ -1,13 +1,27 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.Notification;
-import io.github.gabrielpetry23.ecommerceapi.model.User;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.List;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface NotificationRepository extends JpaRepository<Notification, UUID> {
-    List<Notification> findByUserAndReadAtIsNullOrderByCreatedAtDesc(User user);
-    List<Notification> findByUserOrderByCreatedAtDesc(User user);
+    Window<Notification> findAllByUserIdOrderByCreatedAtDescIdDesc(UUID userId, ScrollPosition position, Limit limit);
+
+    Window<Notification> findAllByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(UUID userId, ScrollPosition position, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt, n.updatedAt = :readAt WHERE n.id = :id AND n.user.id = :userId AND n.readAt IS NULL")
+    int markAsRead(@Param("id") UUID id, @Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :readAt, n.updatedAt = :readAt WHERE n.user.id = :userId AND n.readAt IS NULL")
+    int markAllAsRead(@Param("userId") UUID userId, @Param("readAt") LocalDateTime readAt);
 }
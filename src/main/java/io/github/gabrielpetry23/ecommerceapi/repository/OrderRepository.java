@@ -1,19 +1,32 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import io.github.gabrielpetry23.ecommerceapi.model.Order;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface OrderRepository extends JpaRepository<Order, UUID> {
 
+    // trackingDetails is the inverse side of a one-to-one and would otherwise load once per order
+    @EntityGraph(attributePaths = "trackingDetails")
     Page<Order> findAllByUserId(UUID userId, Pageable pageable);
 
+    Window<Order> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
     @Query("SELECT o FROM Order o JOIN FETCH o.items oi JOIN FETCH oi.product WHERE o.id = :id")
     Optional<Order> findByIdWithItems(@Param("id") UUID id);
+
+    @Query("SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.items oi LEFT JOIN FETCH oi.product WHERE o.id IN :ids")
+    List<Order> findAllWithItemsByIdIn(@Param("ids") Collection<UUID> ids);
 }
@@ -2,8 +2,14 @@ package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 public interface ProductImageRepository extends JpaRepository<ProductImage, UUID> {
+    @Query("SELECT i FROM ProductImage i WHERE i.product.id IN :productIds")
+    List<ProductImage> findAllByProductIdIn(@Param("productIds") Collection<UUID> productIds);
 }
@@ -0,0 +1,19 @@
+package io.github.gabrielpetry23.ecommerceapi.repository;
+
+import io.github.gabrielpetry23.ecommerceapi.model.ProductRatingBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface ProductRatingBucketRepository extends JpaRepository<ProductRatingBucket, ProductRatingBucket.Key> {
+    List<ProductRatingBucket> findAllByProductIdIn(Collection<UUID> productIds);
+
+    @Modifying
+    @Query("UPDATE ProductRatingBucket b SET b.reviewCount = b.reviewCount + :delta WHERE b.productId = :productId AND b.rating = :rating")
+    int increment(@Param("productId") UUID productId, @Param("rating") Integer rating, @Param("delta") long delta);
+}
@@ -2,9 +2,21 @@ package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.Category;
 import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -12,5 +24,28 @@ import java.util.UUID;
 public interface ProductRepository extends JpaRepository<Product, UUID>, JpaSpecificationExecutor<Product> {
     Optional<Product> findByNameAndCategory(String name, Category category);
 
+    @EntityGraph(attributePaths = "category")
     List<Product> findAllByCategory(Category category);
+
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    Page<Product> findAll(Specification<Product> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "category")
+    List<Product> findAllWithCategoryByIdIn(Collection<UUID> ids);
+
+    @EntityGraph(attributePaths = "category")
+    Window<Product> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    @Query("SELECT DISTINCT p.name FROM Product p WHERE LOWER(p.name) LIKE CONCAT(:prefix, '%') ESCAPE '\\' ORDER BY p.name")
+    List<String> findNamesStartingWith(@Param("prefix") String prefix, Pageable pageable);
+
+    @Query("SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion(COUNT(p), MAX(p.updatedAt)) FROM Product p")
+    CatalogVersion findCatalogVersion();
+
+    @Modifying
+    @Query("UPDATE Product p SET p.reviewCount = p.reviewCount + :delta, p.ratingSum = p.ratingSum + :ratingDelta WHERE p.id = :id")
+    int incrementRatings(@Param("id") UUID id, @Param("delta") int delta, @Param("ratingDelta") long ratingDelta);
 }
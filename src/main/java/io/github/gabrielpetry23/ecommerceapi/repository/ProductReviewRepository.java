@@ -1,7 +1,12 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.ProductReviewSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -9,4 +14,10 @@ import java.util.UUID;
 
 public interface ProductReviewRepository extends JpaRepository<ProductReview, UUID> {
     List<ProductReview> findAllByProductId(UUID productId);
+
+    @Query(value = "SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.ProductReviewSummary(" +
+            "r.product.id, u.id, u.name, r.rating, r.comment) " +
+            "FROM ProductReview r JOIN r.user u WHERE r.product.id = :productId ORDER BY r.createdAt DESC, r.id DESC",
+            countQuery = "SELECT COUNT(r) FROM ProductReview r WHERE r.product.id = :productId")
+    Page<ProductReviewSummary> findSummariesByProductId(@Param("productId") UUID productId, Pageable pageable);
 }
@@ -1,10 +1,33 @@
 package io.github.gabrielpetry23.ecommerceapi.repository;
 
 import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.UserContact;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
     User findByEmail(String email);
+
+    Window<User> findAllByOrderByCreatedAtDescIdDesc(ScrollPosition position, Limit limit);
+
+    @Query("SELECT new io.github.gabrielpetry23.ecommerceapi.repository.projections.UserContact(u.id, u.email) " +
+            "FROM User u WHERE u.role = :role AND u.id > :afterId ORDER BY u.id")
+    List<UserContact> findContactsByRoleAfter(@Param("role") String role, @Param("afterId") UUID afterId, Pageable pageable);
+
+    @Query("SELECT u.unreadNotificationCount FROM User u WHERE u.id = :id")
+    Optional<Integer> findUnreadNotificationCountById(@Param("id") UUID id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.unreadNotificationCount = u.unreadNotificationCount + :delta WHERE u.id = :id")
+    int incrementUnreadNotificationCount(@Param("id") UUID id, @Param("delta") int delta);
 }
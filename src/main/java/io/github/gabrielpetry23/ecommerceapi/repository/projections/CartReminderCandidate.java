@@ -0,0 +1,6 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.projections;
+
+import java.util.UUID;
+
+public record CartReminderCandidate(UUID cartId, UUID userId, long itemCount) {
+}
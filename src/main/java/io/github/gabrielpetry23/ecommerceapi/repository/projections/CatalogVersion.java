@@ -0,0 +1,13 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.projections;
+
+import java.time.LocalDateTime;
+
+public record CatalogVersion(long count, LocalDateTime lastModified) {
+
+    public CatalogVersion and(CatalogVersion other) {
+        LocalDateTime latest = lastModified == null || (other.lastModified() != null && other.lastModified().isAfter(lastModified))
+                ? other.lastModified()
+                : lastModified;
+        return new CatalogVersion(count + other.count(), latest);
+    }
+}
@@ -0,0 +1,10 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.projections;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Address;
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.PaymentMethod;
+
+// Everything checkout reads, loaded in one round trip; address and paymentMethod are null
+// when no row with the requested id exists.
+public record CheckoutContext(Cart cart, Address address, PaymentMethod paymentMethod) {
+}
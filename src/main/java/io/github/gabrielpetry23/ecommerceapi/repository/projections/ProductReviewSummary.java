@@ -0,0 +1,6 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.projections;
+
+import java.util.UUID;
+
+public record ProductReviewSummary(UUID productId, UUID userId, String userName, Integer rating, String comment) {
+}
@@ -0,0 +1,139 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.search;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Uses a weighted tsvector over name and description (GIN expression index) for description
+// keywords and pg_trgm for fuzzy name matching; results are ordered by relevance.
+@Component
+public class PostgresFullTextProductSearchEngine implements ProductSearchEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PostgresFullTextProductSearchEngine.class);
+
+    // Must stay identical to the expression of idx_products_search_document (V4_1) to use the index
+    private static final String SEARCH_DOCUMENT = "(setweight(to_tsvector('simple', coalesce(p.name, '')), 'A') || " +
+            "setweight(to_tsvector('simple', coalesce(p.description, '')), 'B'))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ProductRepository repository;
+    private final boolean supported;
+
+    public PostgresFullTextProductSearchEngine(NamedParameterJdbcTemplate jdbcTemplate,
+                                               ProductRepository repository,
+                                               DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.repository = repository;
+        this.supported = isPostgres(dataSource);
+    }
+
+    @Override
+    public String name() {
+        return FULL_TEXT;
+    }
+
+    @Override
+    public boolean isSupported() {
+        return supported;
+    }
+
+    @Override
+    public Page<Product> search(ProductSearchCriteria criteria, Pageable pageable) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        StringBuilder from = new StringBuilder(" FROM products p");
+        StringBuilder where = new StringBuilder(" WHERE 1 = 1");
+        StringBuilder rank = new StringBuilder("0");
+
+        if (criteria.name() != null) {
+            params.addValue("name", criteria.name());
+            params.addValue("namePattern", "%" + ProductSearchEngine.escapeLike(criteria.name()) + "%");
+            where.append(" AND (p.name % :name OR p.name ILIKE :namePattern)");
+            rank.append(" + similarity(p.name, :name)");
+        }
+        if (criteria.categoryName() != null) {
+            params.addValue("categoryName", criteria.categoryName());
+            from.append(" JOIN categories c ON c.id = p.category_id");
+            where.append(" AND UPPER(c.name) = UPPER(:categoryName)");
+        }
+        if (criteria.description() != null && !criteria.description().isBlank()) {
+            // Any of the keywords matches, like the Specification engine.
+            params.addValue("description", criteria.description());
+            from.append(", CAST(replace(CAST(plainto_tsquery('simple', :description) AS text), '&', '|') AS tsquery) q");
+            where.append(" AND ").append(SEARCH_DOCUMENT).append(" @@ q");
+            rank.append(" + ts_rank(").append(SEARCH_DOCUMENT).append(", q)");
+        }
+        if (criteria.price() != null) {
+            params.addValue("price", criteria.price());
+            where.append(" AND p.price = :price");
+        }
+        if (criteria.minPrice() != null) {
+            params.addValue("minPrice", criteria.minPrice());
+            where.append(" AND p.price >= :minPrice");
+        }
+        if (criteria.maxPrice() != null) {
+            params.addValue("maxPrice", criteria.maxPrice());
+            where.append(" AND p.price <= :maxPrice");
+        }
+        if (criteria.stock() != null) {
+            params.addValue("stock", criteria.stock());
+            where.append(" AND p.stock >= :stock");
+        }
+
+        Long total = jdbcTemplate.queryForObject("SELECT COUNT(*)" + from + where, params, Long.class);
+        if (total == null || total == 0) {
+            return Page.empty(pageable);
+        }
+
+        params.addValue("limit", pageable.getPageSize());
+        params.addValue("offset", pageable.getOffset());
+        List<UUID> ids = jdbcTemplate.queryForList(
+                "SELECT p.id" + from + where + " ORDER BY " + rank + " DESC, p.id LIMIT :limit OFFSET :offset",
+                params, UUID.class);
+
+        Map<UUID, Integer> position = ids.stream().collect(Collectors.toMap(Function.identity(), ids::indexOf));
+        List<Product> products = repository.findAllWithCategoryByIdIn(ids).stream()
+                .sorted(Comparator.comparing(product -> position.get(product.getId())))
+                .toList();
+
+        return new PageImpl<>(products, pageable, total);
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("prefix", ProductSearchEngine.escapeLike(prefix) + "%")
+                .addValue("limit", limit);
+        return jdbcTemplate.queryForList(
+                "SELECT name FROM (SELECT DISTINCT name FROM products WHERE name ILIKE :prefix) n " +
+                        "ORDER BY length(name), name LIMIT :limit",
+                params, String.class);
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect database product, full-text product search disabled: {}", e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.search;
+
+import java.math.BigDecimal;
+
+public record ProductSearchCriteria(
+        String name,
+        String categoryName,
+        String description,
+        BigDecimal price,
+        BigDecimal maxPrice,
+        BigDecimal minPrice,
+        Integer stock
+) {
+}
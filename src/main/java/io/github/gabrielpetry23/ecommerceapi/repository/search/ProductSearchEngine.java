@@ -0,0 +1,28 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.search;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface ProductSearchEngine {
+
+    String SPECIFICATION = "spec";
+    String FULL_TEXT = "fulltext";
+
+    String name();
+
+    // Engines backed by database specific features report false on other databases.
+    default boolean isSupported() {
+        return true;
+    }
+
+    Page<Product> search(ProductSearchCriteria criteria, Pageable pageable);
+
+    List<String> autocomplete(String prefix, int limit);
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
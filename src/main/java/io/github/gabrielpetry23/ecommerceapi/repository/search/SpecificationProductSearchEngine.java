@@ -0,0 +1,62 @@
+package io.github.gabrielpetry23.ecommerceapi.repository.search;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.specs.ProductSpecs;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class SpecificationProductSearchEngine implements ProductSearchEngine {
+
+    private final ProductRepository repository;
+
+    @Override
+    public String name() {
+        return SPECIFICATION;
+    }
+
+    @Override
+    public Page<Product> search(ProductSearchCriteria criteria, Pageable pageable) {
+        Specification<Product> specs = Specification.where((root, query, cb) -> cb.conjunction());
+
+        if (criteria.name() != null) {
+            specs = specs.and(ProductSpecs.nameLike(criteria.name()));
+        }
+        if (criteria.categoryName() != null) {
+            specs = specs.and(ProductSpecs.categoryNameEqual(criteria.categoryName()));
+        }
+        if (criteria.description() != null) {
+            specs = specs.and(ProductSpecs.descriptionContainsKeywords(criteria.description()));
+        }
+        if (criteria.price() != null) {
+            specs = specs.and(ProductSpecs.priceEqual(criteria.price()));
+        }
+
+        if (criteria.minPrice() != null) {
+            specs = specs.and(ProductSpecs.priceGreaterThanOrEqualTo(criteria.minPrice()));
+        }
+
+        if (criteria.maxPrice() != null) {
+            specs = specs.and(ProductSpecs.priceLessThanOrEqualTo(criteria.maxPrice()));
+        }
+
+        if (criteria.stock() != null) {
+            specs = specs.and(ProductSpecs.stockGreaterThanOrEqualTo(criteria.stock()));
+        }
+
+        return repository.findAll(specs, pageable);
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, int limit) {
+        return repository.findNamesStartingWith(ProductSearchEngine.escapeLike(prefix.toLowerCase()), PageRequest.ofSize(limit));
+    }
+}
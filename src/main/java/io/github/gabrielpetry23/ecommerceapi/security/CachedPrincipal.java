@@ -0,0 +1,13 @@
+package io.github.gabrielpetry23.ecommerceapi.security;
+
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+
+import java.util.UUID;
+
+// Immutable copy of what authentication needs, so cached principals are never shared JPA entities.
+public record CachedPrincipal(UUID userId, String email, String role) {
+
+    public static CachedPrincipal from(User user) {
+        return new CachedPrincipal(user.getId(), user.getEmail(), user.getRole());
+    }
+}
@@ -2,39 +2,64 @@ package io.github.gabrielpetry23.ecommerceapi.security;
 
 import io.github.gabrielpetry23.ecommerceapi.model.User;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.UUID;
 
-@RequiredArgsConstructor
 @Getter
 public class CustomAuthentication implements Authentication {
 
+    private final UUID userId;
+    private final String email;
+    private final String role;
     private final User user;
 
+    public CustomAuthentication(User user) {
+        this(user.getId(), user.getEmail(), user.getRole(), user);
+    }
+
+    private CustomAuthentication(UUID userId, String email, String role, User user) {
+        this.userId = userId;
+        this.email = email;
+        this.role = role;
+        this.user = user;
+    }
+
+    public static CustomAuthentication fromClaims(UUID userId, String email, String role) {
+        return new CustomAuthentication(userId, email, role, null);
+    }
+
+    public static CustomAuthentication fromPrincipal(CachedPrincipal principal) {
+        return new CustomAuthentication(principal.userId(), principal.email(), principal.role(), null);
+    }
+
+    public boolean isUserLoaded() {
+        return user != null;
+    }
+
     @Override
     public Collection<GrantedAuthority> getAuthorities() {
-        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(user.getRole());
+        SimpleGrantedAuthority authority = new SimpleGrantedAuthority(role);
         return List.of(authority);
     }
 
     @Override
     public Object getCredentials() {
-        return user;
+        return isUserLoaded() ? user : email;
     }
 
     @Override
     public Object getDetails() {
-        return user;
+        return isUserLoaded() ? user : email;
     }
 
     @Override
     public Object getPrincipal() {
-        return user;
+        return isUserLoaded() ? user : email;
     }
 
     @Override
@@ -49,7 +74,6 @@ public class CustomAuthentication implements Authentication {
 
     @Override
     public String getName() {
-        return user.getEmail();
+        return email;
     }
 }
-
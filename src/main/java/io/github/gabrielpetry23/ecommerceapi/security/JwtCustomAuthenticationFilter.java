@@ -1,5 +1,6 @@
 package io.github.gabrielpetry23.ecommerceapi.security;
 
+import io.github.gabrielpetry23.ecommerceapi.configuration.MethodMetrics;
 import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.service.UserService;
 import jakarta.servlet.FilterChain;
@@ -7,19 +8,32 @@ import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
 public class JwtCustomAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserService userService;
+    private final PrincipalCache principalCache;
+    private final MethodMetrics methodMetrics;
+
+    @Value("${app.security.principal-source:database}")
+    private PrincipalSource principalSource;
+
+    @Value("${app.metrics.instrumentation.security:true}")
+    private boolean timed;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -27,18 +41,67 @@ public class JwtCustomAuthenticationFilter extends OncePerRequestFilter {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if (shouldConvert(authentication)) {
-            String login = authentication.getName();
-            User user = userService.findByEmail(login);
-            if (user != null) {
-                authentication = new CustomAuthentication(user);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            JwtAuthenticationToken token = (JwtAuthenticationToken) authentication;
+            CustomAuthentication customAuthentication = timed
+                    ? methodMetrics.record("security", JwtCustomAuthenticationFilter.class, "convert", () -> convert(token))
+                    : convert(token);
+
+            if (customAuthentication != null) {
+                SecurityContextHolder.getContext().setAuthentication(customAuthentication);
             }
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private CustomAuthentication convert(JwtAuthenticationToken token) {
+        if (principalSource == PrincipalSource.CLAIMS) {
+            CustomAuthentication fromClaims = fromClaims(token);
+            if (fromClaims != null) {
+                return fromClaims;
+            }
+        }
+
+        CachedPrincipal principal = principalCache.get(token.getName(), this::loadPrincipal);
+        return principal != null ? CustomAuthentication.fromPrincipal(principal) : null;
+    }
+
+    private CachedPrincipal loadPrincipal(String email) {
+        User user = userService.findByEmail(email);
+        return user != null ? CachedPrincipal.from(user) : null;
+    }
+
     private boolean shouldConvert(Authentication authentication) {
         return authentication instanceof JwtAuthenticationToken;
     }
+
+    private CustomAuthentication fromClaims(JwtAuthenticationToken token) {
+        Jwt jwt = token.getToken();
+        String userId = jwt.getClaimAsString("userId");
+        String role = resolveRole(token);
+
+        if (userId == null || role == null) {
+            return null;
+        }
+
+        String email = jwt.hasClaim("email") ? jwt.getClaimAsString("email") : token.getName();
+
+        try {
+            return CustomAuthentication.fromClaims(UUID.fromString(userId), email, role);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String resolveRole(JwtAuthenticationToken token) {
+        List<String> authorities = token.getToken().getClaimAsStringList("authorities");
+        if (authorities != null && !authorities.isEmpty()) {
+            return authorities.getFirst();
+        }
+
+        return token.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .findFirst()
+                .orElse(null);
+    }
 }
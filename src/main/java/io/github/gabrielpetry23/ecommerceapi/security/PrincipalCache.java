@@ -0,0 +1,39 @@
+package io.github.gabrielpetry23.ecommerceapi.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielpetry23.ecommerceapi.service.CacheEvictions;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+
+    private final Cache<String, CachedPrincipal> cache;
+
+    public PrincipalCache(@Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+                          @Value("${app.security.principal-cache.ttl:5m}") Duration ttl,
+                          MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principals");
+    }
+
+    public CachedPrincipal get(String subject, Function<String, CachedPrincipal> loader) {
+        return cache.get(subject, loader);
+    }
+
+    public void evict(String subject) {
+        if (subject != null) {
+            CacheEvictions.evictNowAndAfterCommit(() -> cache.invalidate(subject));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.gabrielpetry23.ecommerceapi.security;
+
+public enum PrincipalSource {
+    DATABASE,
+    CLAIMS
+}
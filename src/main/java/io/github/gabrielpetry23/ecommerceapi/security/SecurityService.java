@@ -1,19 +1,47 @@
 package io.github.gabrielpetry23.ecommerceapi.security;
 
 import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.UUID;
+
 @Component
 @RequiredArgsConstructor
 public class SecurityService {
 
+    private final UserRepository userRepository;
+
     public User getCurrentUser() {
+        CustomAuthentication customAuth = getCurrentAuthentication();
+        if (customAuth == null) {
+            return null;
+        }
+
+        if (customAuth.isUserLoaded()) {
+            return customAuth.getUser();
+        }
+
+        return userRepository.getReferenceById(customAuth.getUserId());
+    }
+
+    public UUID getCurrentUserId() {
+        CustomAuthentication customAuth = getCurrentAuthentication();
+        return customAuth != null ? customAuth.getUserId() : null;
+    }
+
+    public String getCurrentUserRole() {
+        CustomAuthentication customAuth = getCurrentAuthentication();
+        return customAuth != null ? customAuth.getRole() : null;
+    }
+
+    private CustomAuthentication getCurrentAuthentication() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication instanceof CustomAuthentication customAuth) {
-            return customAuth.getUser();
+            return customAuth;
         }
 
         return null;
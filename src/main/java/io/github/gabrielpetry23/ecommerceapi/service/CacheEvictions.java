@@ -0,0 +1,25 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class CacheEvictions {
+
+    private CacheEvictions() {
+    }
+
+    // Evicts right away and once more after commit, so a request racing the
+    // transaction cannot put the pre-commit state back into the cache.
+    public static void evictNowAndAfterCommit(Runnable invalidation) {
+        invalidation.run();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
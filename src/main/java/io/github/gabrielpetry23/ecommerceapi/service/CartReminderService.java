@@ -1,41 +1,107 @@
 package io.github.gabrielpetry23.ecommerceapi.service;
 
-import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.repository.CartRepository;
-import lombok.RequiredArgsConstructor;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CartReminderCandidate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 @Service
-@RequiredArgsConstructor
 public class CartReminderService {
 
-    private final CartRepository cartRepository;
-    private final NotificationService notificationService;
+    private static final Logger log = LoggerFactory.getLogger(CartReminderService.class);
+
     private static final int ABANDONED_HOURS = 24;
     private static final int REMINDER_COOLDOWN_HOURS = 48;
+    private static final String NOTIFICATION_TYPE = "CART_REMINDER";
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final CartRepository cartRepository;
+    private final NotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer runTimer;
+    private final Counter remindersSent;
+    private final Counter chunksProcessed;
+
+    @Value("${app.cart-reminder.chunk-size:500}")
+    private int chunkSize;
+
+    public CartReminderService(CartRepository cartRepository,
+                               NotificationService notificationService,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry) {
+        this.cartRepository = cartRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = transactionTemplate;
+        this.runTimer = Timer.builder("cart.reminders.run")
+                .description("Duration of a full abandoned-cart reminder run")
+                .register(meterRegistry);
+        this.remindersSent = Counter.builder("cart.reminders.sent")
+                .description("Abandoned-cart reminders persisted")
+                .register(meterRegistry);
+        this.chunksProcessed = Counter.builder("cart.reminders.chunks")
+                .description("Abandoned-cart reminder chunks committed")
+                .register(meterRegistry);
+    }
 
     @Scheduled(fixedRate = 21600000, initialDelay = 60000)
-    @Transactional
     public void sendCartReminders() {
+        runTimer.record(this::remindAbandonedCarts);
+    }
+
+    // Every chunk commits on its own, so a failure halfway only repeats the
+    // unfinished carts on the next run; committed ones are out of the cooldown window.
+    private void remindAbandonedCarts() {
         LocalDateTime abandonedThreshold = LocalDateTime.now().minusHours(ABANDONED_HOURS);
         LocalDateTime reminderCooldownThreshold = LocalDateTime.now().minusHours(REMINDER_COOLDOWN_HOURS);
+        long started = System.nanoTime();
+        int reminded = 0;
+        UUID afterId = FIRST_ID;
+
+        List<CartReminderCandidate> candidates;
+        do {
+            candidates = cartRepository.findReminderCandidatesAfter(
+                    afterId, abandonedThreshold, reminderCooldownThreshold, PageRequest.ofSize(chunkSize));
+            if (candidates.isEmpty()) {
+                break;
+            }
 
-        List<Cart> eligibleCarts = cartRepository.findAbandonedCartsEligibleForReminder(
-                abandonedThreshold, reminderCooldownThreshold
-        );
+            List<NotificationResponseDTO> notifications = remindChunk(candidates);
+            notificationService.publishAll(notifications);
+
+            reminded += candidates.size();
+            remindersSent.increment(candidates.size());
+            chunksProcessed.increment();
+            afterId = candidates.getLast().cartId();
+        } while (candidates.size() == chunkSize);
+
+        log.info("Sent {} abandoned cart reminders in {} ms", reminded, (System.nanoTime() - started) / 1_000_000);
+    }
 
-        System.out.println("Founded " + eligibleCarts.size() + " abandoned carts.");
+    private List<NotificationResponseDTO> remindChunk(List<CartReminderCandidate> candidates) {
+        Map<UUID, String> contentByUserId = new LinkedHashMap<>();
+        candidates.forEach(candidate -> contentByUserId.put(candidate.userId(),
+                String.format("You left %d item(s) in your cart. Don't lose your choices!", candidate.itemCount())));
+        List<UUID> cartIds = candidates.stream().map(CartReminderCandidate::cartId).toList();
 
-        for (Cart cart : eligibleCarts) {
-            String content = String.format("You left %d item(s) in your cart. Don't lose your choices!", cart.getItems().size());
-            notificationService.sendAndPersistNotification(cart.getUser(), "CART_REMINDER", content);
-            cart.setLastReminderSentAt(LocalDateTime.now());
-            cartRepository.save(cart);
-        }
+        return transactionTemplate.execute(status -> {
+            List<NotificationResponseDTO> notifications = notificationService.persistAll(NOTIFICATION_TYPE, contentByUserId);
+            cartRepository.markReminderSent(cartIds, LocalDateTime.now());
+            return notifications;
+        });
     }
-}
\ No newline at end of file
+}
@@ -88,6 +88,12 @@ public class CartService {
     public void emptyCart(UUID id) {
         Cart cart = repository.findById(id).orElseThrow(() -> new EntityNotFoundException("Cart not found"));
         validator.validateCurrentUserAccessOrAdmin(cart.getUser().getId());
+        emptyCart(cart);
+    }
+
+    // For a cart the caller already loaded and checked; orphan removal deletes the items on flush
+    @Transactional
+    public void emptyCart(Cart cart) {
         cart.getItems().clear();
         cart.setTotal(BigDecimal.ZERO);
         repository.save(cart);
@@ -113,7 +119,7 @@ public class CartService {
         return mapper.toDTO(cart);
     }
 
-    private BigDecimal calculateTotalPrice(Cart cart) {
+    static BigDecimal calculateTotalPrice(Cart cart) {
         return cart.getItems().stream()
                 .map(CartItem::getTotal)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -0,0 +1,122 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CategoryDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+// Read-through cache for the public catalog endpoints. Only DTOs are stored, so
+// cached values never hold on to entities or lazy collections.
+@Component
+public class CatalogCache {
+
+    private static final String ALL_CATEGORIES = "all";
+    private static final String PRODUCTS_VERSION = "products";
+    private static final String CATEGORIES_VERSION = "categories";
+
+    private final Cache<UUID, ProductResponseDTO> products;
+    private final Cache<String, List<CategoryDTO>> categories;
+    private final Cache<UUID, List<ProductResponseDTO>> categoryProducts;
+    private final Cache<String, CatalogVersion> versions;
+
+    public CatalogCache(@Value("${app.catalog-cache.products.maximum-size:10000}") long productsMaximumSize,
+                        @Value("${app.catalog-cache.products.ttl:10m}") Duration productsTtl,
+                        @Value("${app.catalog-cache.categories.ttl:1h}") Duration categoriesTtl,
+                        @Value("${app.catalog-cache.category-products.maximum-size:500}") long categoryProductsMaximumSize,
+                        @Value("${app.catalog-cache.category-products.ttl:5m}") Duration categoryProductsTtl,
+                        @Value("${app.catalog-cache.versions.ttl:10s}") Duration versionsTtl,
+                        MeterRegistry meterRegistry) {
+        this.products = build(productsMaximumSize, productsTtl, "catalog.products", meterRegistry);
+        this.categories = build(1, categoriesTtl, "catalog.categories", meterRegistry);
+        this.categoryProducts = build(categoryProductsMaximumSize, categoryProductsTtl, "catalog.category-products", meterRegistry);
+        this.versions = build(2, versionsTtl, "catalog.versions", meterRegistry);
+    }
+
+    public ProductResponseDTO getProduct(UUID productId, Function<UUID, ProductResponseDTO> loader) {
+        return products.get(productId, loader);
+    }
+
+    public List<CategoryDTO> getCategories(Supplier<List<CategoryDTO>> loader) {
+        return categories.get(ALL_CATEGORIES, key -> List.copyOf(loader.get()));
+    }
+
+    public List<ProductResponseDTO> getCategoryProducts(UUID categoryId, Function<UUID, List<ProductResponseDTO>> loader) {
+        return categoryProducts.get(categoryId, key -> List.copyOf(loader.apply(key)));
+    }
+
+    // Versions back the listing ETags, so they are dropped by the same writes that evict
+    // the DTOs; the short TTL bounds how long another node's writes go unnoticed.
+    public CatalogVersion getProductsVersion(Supplier<CatalogVersion> loader) {
+        return versions.get(PRODUCTS_VERSION, key -> loader.get());
+    }
+
+    public CatalogVersion getCategoriesVersion(Supplier<CatalogVersion> loader) {
+        return versions.get(CATEGORIES_VERSION, key -> loader.get());
+    }
+
+    public void evictProduct(UUID productId, UUID... categoryIds) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            products.invalidate(productId);
+            versions.invalidate(PRODUCTS_VERSION);
+            for (UUID categoryId : categoryIds) {
+                if (categoryId != null) {
+                    categoryProducts.invalidate(categoryId);
+                }
+            }
+        });
+    }
+
+    public void evictProducts(Collection<UUID> productIds, Collection<UUID> categoryIds) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            products.invalidateAll(productIds);
+            versions.invalidate(PRODUCTS_VERSION);
+            categoryProducts.invalidateAll(categoryIds.stream().filter(Objects::nonNull).toList());
+        });
+    }
+
+    public void evictCategories() {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            categories.invalidateAll();
+            versions.invalidateAll();
+        });
+    }
+
+    // Product DTOs embed their category, so a category write drops every cached product too.
+    public void evictCategory(UUID categoryId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> {
+            categories.invalidateAll();
+            products.invalidateAll();
+            versions.invalidateAll();
+            if (categoryId != null) {
+                categoryProducts.invalidate(categoryId);
+            }
+        });
+    }
+
+    private static <K, V> Cache<K, V> build(long maximumSize, Duration ttl, String region, MeterRegistry meterRegistry) {
+        Cache<K, V> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, region);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", region)
+                .register(meterRegistry);
+        return cache;
+    }
+}
@@ -1,10 +1,15 @@
 package io.github.gabrielpetry23.ecommerceapi.service;
 
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CategoryDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.mappers.CategoryMapper;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.ProductMapper;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
 import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
 import io.github.gabrielpetry23.ecommerceapi.repository.CategoryRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
 import io.github.gabrielpetry23.ecommerceapi.validators.CategoryValidator;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -19,13 +24,18 @@ import java.util.UUID;
 public class CategoryService {
 
     private final CategoryRepository repository;
+    private final ProductRepository productRepository;
     private final CategoryValidator validator;
     private final ProductMapper productMapper;
+    private final CategoryMapper categoryMapper;
+    private final CatalogCache catalogCache;
 
     @Transactional
     public Category save(Category category) {
         validator.validateNewCategory(category);
-        return repository.save(category);
+        Category saved = repository.save(category);
+        catalogCache.evictCategories();
+        return saved;
     }
 
     public Optional<Category> findById(UUID uuid) {
@@ -36,6 +46,16 @@ public class CategoryService {
         return repository.findAll();
     }
 
+    public CatalogVersion findCatalogVersion() {
+        return catalogCache.getCategoriesVersion(repository::findCatalogVersion);
+    }
+
+    public List<CategoryDTO> findAllDTO() {
+        return catalogCache.getCategories(() -> repository.findAll().stream()
+                .map(categoryMapper::toDTO)
+                .toList());
+    }
+
     @Transactional
     public void update(UUID uuid, Category category) {
         if (uuid == null) {
@@ -45,6 +65,7 @@ public class CategoryService {
         validator.validateNewCategory(category);
         category.setId(uuid);
         repository.save(category);
+        catalogCache.evictCategory(uuid);
     }
 
     @Transactional
@@ -53,15 +74,20 @@ public class CategoryService {
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
 
         repository.delete(category);
+        catalogCache.evictCategory(category.getId());
     }
 
     public List<ProductResponseDTO> findAllProductsDTOByCategoryId(UUID id) {
+        return catalogCache.getCategoryProducts(id, this::loadProductsDTO);
+    }
+
+    private List<ProductResponseDTO> loadProductsDTO(UUID id) {
         Category category = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
 
-        return category.getProducts()
-                .stream()
-                .map(productMapper::toDTO)
+        List<Product> products = productRepository.findAllByCategory(category);
+        return products.stream()
+                .map(productMapper.toDTOBatch(products))
                 .toList();
     }
 }
@@ -0,0 +1,6 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import java.util.UUID;
+
+public record CouponCreatedEvent(UUID couponId) {
+}
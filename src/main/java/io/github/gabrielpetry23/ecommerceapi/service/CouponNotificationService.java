@@ -0,0 +1,126 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CouponNotificationProgressDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.repository.CouponRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.UserContact;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class CouponNotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponNotificationService.class);
+
+    private static final String TARGET_ROLE = "USER";
+    private static final String NOTIFICATION_TYPE = "NEW_COUPON";
+    private static final UUID FIRST_ID = new UUID(0L, 0L);
+
+    private final CouponRepository couponRepository;
+    private final UserRepository userRepository;
+    private final NotificationService notificationService;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Cache<UUID, CouponNotificationProgressDTO> progress = Caffeine.newBuilder()
+            .maximumSize(1000)
+            .expireAfterWrite(Duration.ofDays(1))
+            .build();
+
+    @Value("${app.coupon.fan-out.chunk-size:1000}")
+    private int chunkSize;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCouponCreated(CouponCreatedEvent event) {
+        notifyUsers(event.couponId());
+    }
+
+    public void notifyUsers(UUID couponId) {
+        Optional<Coupon> couponFound = couponRepository.findById(couponId);
+        if (couponFound.isEmpty()) {
+            log.warn("Coupon {} not found, skipping notifications", couponId);
+            return;
+        }
+
+        Coupon coupon = couponFound.get();
+        String content = buildContent(coupon);
+        LocalDateTime startedAt = LocalDateTime.now();
+        long notified = 0;
+        UUID afterId = FIRST_ID;
+
+        progress.put(couponId, new CouponNotificationProgressDTO(couponId, "RUNNING", 0, startedAt, null));
+
+        try {
+            List<UserContact> users;
+            do {
+                users = userRepository.findContactsByRoleAfter(TARGET_ROLE, afterId, PageRequest.ofSize(chunkSize));
+                if (users.isEmpty()) {
+                    break;
+                }
+
+                List<NotificationResponseDTO> notifications = notifyChunk(coupon, content, users);
+                notificationService.publishAll(notifications);
+
+                notified += users.size();
+                afterId = users.getLast().id();
+                progress.put(couponId, new CouponNotificationProgressDTO(couponId, "RUNNING", notified, startedAt, null));
+                log.debug("Coupon {}: notified {} users so far", coupon.getCode(), notified);
+            } while (users.size() == chunkSize);
+
+            progress.put(couponId, new CouponNotificationProgressDTO(couponId, "COMPLETED", notified, startedAt, LocalDateTime.now()));
+            log.info("Coupon {}: notified {} users in {} ms", coupon.getCode(), notified,
+                    Duration.between(startedAt, LocalDateTime.now()).toMillis());
+        } catch (RuntimeException e) {
+            progress.put(couponId, new CouponNotificationProgressDTO(couponId, "FAILED", notified, startedAt, LocalDateTime.now()));
+            log.error("Coupon {}: notification fan-out failed after {} users: {}", coupon.getCode(), notified, e.getMessage(), e);
+        }
+    }
+
+    public Optional<CouponNotificationProgressDTO> findProgress(UUID couponId) {
+        return Optional.ofNullable(progress.getIfPresent(couponId));
+    }
+
+    private List<NotificationResponseDTO> notifyChunk(Coupon coupon, String content, List<UserContact> users) {
+        Map<UUID, String> contentByUserId = new LinkedHashMap<>();
+        users.forEach(user -> contentByUserId.put(user.id(), content));
+
+        return transactionTemplate.execute(status -> {
+            emailService.sendNewCouponEmail(coupon, users.stream().map(UserContact::email).toList());
+            return notificationService.persistAll(NOTIFICATION_TYPE, contentByUserId);
+        });
+    }
+
+    private String buildContent(Coupon coupon) {
+        if (coupon.getDiscountPercentage() != null && coupon.getDiscountPercentage().compareTo(BigDecimal.ZERO) > 0) {
+            return String.format("Novo cupom disponível! Use '%s' para %.2f%% de desconto!",
+                    coupon.getCode(), coupon.getDiscountPercentage());
+        } else if (coupon.getDiscountAmount() != null && coupon.getDiscountAmount().compareTo(BigDecimal.ZERO) > 0) {
+            return String.format("Novo cupom disponível! Use '%s' para R$ %.2f de desconto!",
+                    coupon.getCode(), coupon.getDiscountAmount());
+        }
+        return String.format("Novo cupom '%s' disponível! Confira nossas ofertas!", coupon.getCode());
+    }
+}
@@ -5,18 +5,18 @@ import io.github.gabrielpetry23.ecommerceapi.controller.mappers.CouponMapper;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.InvalidCouponException;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
 import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
-import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.repository.CouponRepository;
-import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -25,36 +25,14 @@ import java.util.UUID;
 public class CouponService {
 
     private final CouponRepository couponRepository;
-    private final UserRepository userRepository;
-    private final NotificationService notificationService;
     private final CouponMapper mapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void save(Coupon coupon) {
         couponRepository.save(coupon);
-        sendNotifications(coupon);
-    }
-
-    private void sendNotifications(Coupon coupon) {
         if (coupon.getIsActive()) {
-            List<User> allUsers = userRepository.findAll();
-            String content;
-
-            if (coupon.getDiscountPercentage() != null && coupon.getDiscountPercentage().compareTo(BigDecimal.ZERO) > 0) {
-                content = String.format("Novo cupom disponível! Use '%s' para %.2f%% de desconto!",
-                        coupon.getCode(), coupon.getDiscountPercentage());
-            } else if (coupon.getDiscountAmount() != null && coupon.getDiscountAmount().compareTo(BigDecimal.ZERO) > 0) {
-                content = String.format("Novo cupom disponível! Use '%s' para R$ %.2f de desconto!",
-                        coupon.getCode(), coupon.getDiscountAmount());
-            } else {
-                content = String.format("Novo cupom '%s' disponível! Confira nossas ofertas!", coupon.getCode());
-            }
-
-            for (User user : allUsers) {
-                if ("USER".equals(user.getRole())) {
-                    notificationService.sendAndPersistNotification(user, "NEW_COUPON", content);
-                }
-            }
+            eventPublisher.publishEvent(new CouponCreatedEvent(coupon.getId()));
         }
     }
 
@@ -78,4 +56,8 @@ public class CouponService {
         Page<Coupon> coupons = couponRepository.findAll(PageRequest.of(page, size));
         return coupons.map(mapper::toDTO);
     }
+
+    public Window<Coupon> findAll(ScrollPosition position, int size) {
+        return couponRepository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size));
+    }
 }
\ No newline at end of file
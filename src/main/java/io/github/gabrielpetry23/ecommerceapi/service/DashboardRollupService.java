@@ -0,0 +1,388 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+// Deltas and reconciliation meet at one PostgreSQL advisory lock. Order and delta transactions
+// take it shared; reconcile takes it exclusively only to cut a new generation. The order
+// transaction records the generation it saw. If a reconcile cut a new one between the order's
+// commit and its delta, the order is already counted and the delta is dropped. Other databases
+// (the H2 test schema) get the generation check without the lock.
+@Service
+public class DashboardRollupService {
+
+    private static final Logger log = LoggerFactory.getLogger(DashboardRollupService.class);
+
+    private static final long ROLLUP_LOCK_KEY = "dashboard-rollups".hashCode();
+    private static final int STATE_ID = 1;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate deltaTransactionTemplate;
+    private final boolean advisoryLocks;
+
+    @Value("${app.dashboard.reconcile-lock-wait:10s}")
+    private Duration reconcileLockWait;
+
+    public DashboardRollupService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.advisoryLocks = isPostgres(dataSource);
+        this.deltaTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.deltaTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public void orderCreated(Order order) {
+        Delta delta = new Delta();
+        LocalDateTime createdAt = order.getCreatedAt() != null ? order.getCreatedAt() : LocalDateTime.now();
+        delta.months.merge(createdAt.toLocalDate().withDayOfMonth(1), 1L, Long::sum);
+        for (OrderItem item : order.getItems()) {
+            delta.unitsSold.merge(item.getProduct().getId(), (long) item.getQuantity(), Long::sum);
+        }
+        delta.status(order.getStatus(), 1, order.getTotal());
+        apply(delta);
+    }
+
+    public void orderStatusChanged(BigDecimal total, OrderStatus oldStatus, OrderStatus newStatus) {
+        if (oldStatus == newStatus) {
+            return;
+        }
+        Delta delta = new Delta();
+        delta.status(oldStatus, -1, total.negate());
+        delta.status(newStatus, 1, total);
+        apply(delta);
+    }
+
+    public void orderTotalChanged(OrderStatus status, BigDecimal oldTotal, BigDecimal newTotal) {
+        Delta delta = new Delta();
+        delta.status(status, 0, newTotal.subtract(oldTotal));
+        apply(delta);
+    }
+
+    // Recomputes the rollups from the source tables. Catches anything the deltas
+    // missed: seeded rows, manual fixes, or a node dying between commit and delta.
+    // The exclusive lock is held only to bump the generation and pin a REPEATABLE READ
+    // snapshot, so every order of the old generation is in it and none of the new one.
+    // The aggregates then run on that snapshot without the lock, and the difference to
+    // the rollups as they stood at the cut is applied as one more delta of the new generation.
+    @Scheduled(fixedDelayString = "${app.dashboard.reconcile-interval:3600000}", initialDelayString = "${app.dashboard.reconcile-initial-delay:30000}")
+    public void reconcile() {
+        long started = System.nanoTime();
+        Cut cut = jdbcTemplate.execute((ConnectionCallback<Cut>) this::cutAndCompare);
+        if (cut == null) {
+            log.warn("Dashboard rollup lock still busy after {}, reconciliation skipped until the next run", reconcileLockWait);
+            return;
+        }
+        applyNow(cut.correction(), cut.generation());
+        log.info("Dashboard rollups reconciled in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // Runs on one connection, since the snapshot must be taken while the session lock is held
+    private Cut cutAndCompare(Connection connection) throws SQLException {
+        JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+        if (!tryLockExclusive(session)) {
+            return null;
+        }
+        boolean autoCommit = connection.getAutoCommit();
+        int isolation = connection.getTransactionIsolation();
+        boolean locked = true;
+        try {
+            long generation = bumpGeneration(session);
+            connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+            connection.setAutoCommit(false);
+            try {
+                Delta recorded = readRollups(session);
+                unlockExclusive(session);
+                locked = false;
+
+                Delta actual = aggregateOrders(session);
+                connection.commit();
+                return new Cut(generation, actual.minus(recorded));
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            }
+        } finally {
+            if (locked) {
+                unlockExclusive(session);
+            }
+            connection.setAutoCommit(autoCommit);
+            connection.setTransactionIsolation(isolation);
+        }
+    }
+
+    // Polls instead of waiting, so checkouts asking for the shared lock never queue behind it
+    private boolean tryLockExclusive(JdbcTemplate session) {
+        if (!advisoryLocks) {
+            return true;
+        }
+        long deadline = System.nanoTime() + reconcileLockWait.toNanos();
+        while (!Boolean.TRUE.equals(session.queryForObject("SELECT pg_try_advisory_lock(?)", Boolean.class, ROLLUP_LOCK_KEY))) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void unlockExclusive(JdbcTemplate session) {
+        if (advisoryLocks) {
+            session.queryForObject("SELECT pg_advisory_unlock(?)", Boolean.class, ROLLUP_LOCK_KEY);
+        }
+    }
+
+    private static long bumpGeneration(JdbcTemplate session) {
+        // The test schema is built from the entities and starts without the state row
+        if (session.update("UPDATE dashboard_rollup_state SET generation = generation + 1 WHERE id = ?", STATE_ID) == 0) {
+            session.update("INSERT INTO dashboard_rollup_state (id, generation) VALUES (?, ?)", STATE_ID, 1L);
+        }
+        return session.queryForObject("SELECT generation FROM dashboard_rollup_state WHERE id = ?", Long.class, STATE_ID);
+    }
+
+    private static Delta readRollups(JdbcTemplate session) {
+        Delta rollups = new Delta();
+        session.query("SELECT period, order_count FROM dashboard_monthly_orders",
+                rs -> { rollups.months.put(rs.getObject(1, LocalDate.class), rs.getLong(2)); });
+        session.query("SELECT product_id, units_sold FROM dashboard_product_sales",
+                rs -> { rollups.unitsSold.put(rs.getObject(1, UUID.class), rs.getLong(2)); });
+        session.query("SELECT status, order_count, revenue FROM dashboard_status_revenue",
+                rs -> { rollups.status(OrderStatus.valueOf(rs.getString(1)), rs.getLong(2), rs.getBigDecimal(3)); });
+        return rollups;
+    }
+
+    private static Delta aggregateOrders(JdbcTemplate session) {
+        Delta actual = new Delta();
+        session.query("SELECT CAST(DATE_TRUNC('month', created_at) AS DATE), COUNT(*) FROM orders " +
+                        "WHERE created_at IS NOT NULL " +
+                        "GROUP BY CAST(DATE_TRUNC('month', created_at) AS DATE)",
+                rs -> { actual.months.put(rs.getObject(1, LocalDate.class), rs.getLong(2)); });
+        session.query("SELECT product_id, SUM(quantity) FROM order_items GROUP BY product_id",
+                rs -> { actual.unitsSold.put(rs.getObject(1, UUID.class), rs.getLong(2)); });
+        session.query("SELECT status, COUNT(*), COALESCE(SUM(total), 0) FROM orders WHERE status IS NOT NULL GROUP BY status",
+                rs -> { actual.status(OrderStatus.valueOf(rs.getString(1)), rs.getLong(2), rs.getBigDecimal(3)); });
+        return actual;
+    }
+
+    // Deltas are applied after the order commits, in their own short transaction,
+    // so checkouts never wait on the few hot rollup rows.
+    // The shared lock taken here is held until the order commits, so no reconcile can
+    // cut a generation in between and the one read is the one the order is counted against.
+    private void apply(Delta delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyNow(delta, null);
+            return;
+        }
+        long generation = lockSharedAndReadGeneration();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                applyNow(delta, generation);
+            }
+        });
+    }
+
+    private void applyNow(Delta delta, Long orderGeneration) {
+        try {
+            try {
+                deltaTransactionTemplate.executeWithoutResult(status -> writeIfNotReconciled(delta, orderGeneration));
+            } catch (DuplicateKeyException e) {
+                // Another delta inserted the same new row first; it exists now, so the retry updates it.
+                deltaTransactionTemplate.executeWithoutResult(status -> writeIfNotReconciled(delta, orderGeneration));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Failed to apply dashboard rollup delta, next reconciliation will repair it: {}", e.getMessage());
+        }
+    }
+
+    private void writeIfNotReconciled(Delta delta, Long orderGeneration) {
+        long generation = lockSharedAndReadGeneration();
+        if (orderGeneration != null && generation != orderGeneration) {
+            log.debug("Dropping dashboard rollup delta already counted by reconciliation {}", generation);
+            return;
+        }
+        write(delta);
+        if (delta.correction) {
+            // Rows the source tables no longer back; a full rebuild would not have them
+            jdbcTemplate.update("DELETE FROM dashboard_monthly_orders WHERE order_count = 0");
+            jdbcTemplate.update("DELETE FROM dashboard_product_sales WHERE units_sold = 0");
+            jdbcTemplate.update("DELETE FROM dashboard_status_revenue WHERE order_count = 0 AND revenue = 0");
+        }
+    }
+
+    private long lockSharedAndReadGeneration() {
+        lock("pg_advisory_xact_lock_shared");
+        // A separate statement, so under READ COMMITTED it sees a reconcile that held the lock
+        List<Long> generation = jdbcTemplate.queryForList(
+                "SELECT generation FROM dashboard_rollup_state WHERE id = ?", Long.class, STATE_ID);
+        return generation.isEmpty() ? 0L : generation.getFirst();
+    }
+
+    private void lock(String function) {
+        if (advisoryLocks) {
+            jdbcTemplate.queryForList("SELECT " + function + "(?)", ROLLUP_LOCK_KEY);
+        }
+    }
+
+    private void write(Delta delta) {
+        delta.months.forEach((period, count) -> upsert(
+                "UPDATE dashboard_monthly_orders SET order_count = order_count + ? WHERE period = ?",
+                "INSERT INTO dashboard_monthly_orders (period, order_count) VALUES (?, ?)",
+                new Object[]{count, period},
+                new Object[]{period, count}));
+
+        writeUnitsSold(delta.unitsSold);
+
+        delta.statuses.forEach((status, change) -> upsert(
+                "UPDATE dashboard_status_revenue SET order_count = order_count + ?, revenue = revenue + ? WHERE status = ?",
+                "INSERT INTO dashboard_status_revenue (status, order_count, revenue) VALUES (?, ?, ?)",
+                new Object[]{change.orderCount(), change.revenue(), status.name()},
+                new Object[]{status.name(), change.orderCount(), change.revenue()}));
+    }
+
+    // One product_sales row per cart line, so the updates go out as a single batch and only
+    // the products with no row yet are inserted, in a second one.
+    private void writeUnitsSold(Map<UUID, Long> unitsSold) {
+        if (unitsSold.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<UUID, Long>> lines = new ArrayList<>(unitsSold.entrySet());
+        int[] updated = jdbcTemplate.batchUpdate(
+                "UPDATE dashboard_product_sales SET units_sold = units_sold + ? WHERE product_id = ?",
+                lines, lines.size(), (ps, line) -> {
+                    ps.setLong(1, line.getValue());
+                    ps.setObject(2, line.getKey());
+                })[0];
+
+        List<Map.Entry<UUID, Long>> missing = new ArrayList<>();
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                missing.add(lines.get(i));
+            }
+        }
+        if (missing.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO dashboard_product_sales (product_id, units_sold) VALUES (?, ?)",
+                missing, missing.size(), (ps, line) -> {
+                    ps.setObject(1, line.getKey());
+                    ps.setLong(2, line.getValue());
+                });
+    }
+
+    private void upsert(String updateSql, String insertSql, Object[] updateArgs, Object[] insertArgs) {
+        if (jdbcTemplate.update(updateSql, updateArgs) == 0) {
+            jdbcTemplate.update(insertSql, insertArgs);
+        }
+    }
+
+    private static boolean isPostgres(DataSource dataSource) {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return "PostgreSQL".equalsIgnoreCase(product);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not detect database product, dashboard rollups run without advisory locks: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private record Cut(long generation, Delta correction) {
+    }
+
+    private record StatusChange(long orderCount, BigDecimal revenue) {
+        static final StatusChange NONE = new StatusChange(0, BigDecimal.ZERO);
+
+        StatusChange plus(StatusChange other) {
+            return new StatusChange(orderCount + other.orderCount, revenue.add(other.revenue));
+        }
+
+        StatusChange minus(StatusChange other) {
+            return new StatusChange(orderCount - other.orderCount, revenue.subtract(other.revenue));
+        }
+
+        boolean isNone() {
+            return orderCount == 0 && revenue.signum() == 0;
+        }
+    }
+
+    // Sorted maps keep the row lock order stable across concurrent deltas.
+    private static class Delta {
+        private final Map<LocalDate, Long> months = new TreeMap<>();
+        private final Map<UUID, Long> unitsSold = new TreeMap<>();
+        private final Map<OrderStatus, StatusChange> statuses = new EnumMap<>(OrderStatus.class);
+        private boolean correction;
+
+        void status(OrderStatus status, long orderCount, BigDecimal revenue) {
+            statuses.merge(status, new StatusChange(orderCount, revenue), StatusChange::plus);
+        }
+
+        // What has to be added to the recorded rollups to reach these totals
+        Delta minus(Delta recorded) {
+            Delta difference = new Delta();
+            difference.correction = true;
+            difference(months, recorded.months, difference.months);
+            difference(unitsSold, recorded.unitsSold, difference.unitsSold);
+
+            Set<OrderStatus> keys = new HashSet<>(statuses.keySet());
+            keys.addAll(recorded.statuses.keySet());
+            for (OrderStatus key : keys) {
+                StatusChange change = statuses.getOrDefault(key, StatusChange.NONE)
+                        .minus(recorded.statuses.getOrDefault(key, StatusChange.NONE));
+                if (!change.isNone()) {
+                    difference.statuses.put(key, change);
+                }
+            }
+            return difference;
+        }
+
+        private static <K> void difference(Map<K, Long> actual, Map<K, Long> recorded, Map<K, Long> into) {
+            Set<K> keys = new HashSet<>(actual.keySet());
+            keys.addAll(recorded.keySet());
+            for (K key : keys) {
+                long change = actual.getOrDefault(key, 0L) - recorded.getOrDefault(key, 0L);
+                if (change != 0) {
+                    into.put(key, change);
+                }
+            }
+        }
+    }
+}
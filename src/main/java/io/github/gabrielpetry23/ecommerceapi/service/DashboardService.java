@@ -15,6 +15,7 @@ public class DashboardService {
 
     private final JdbcTemplate jdbcTemplate;
 
+    // Reads the rollup tables maintained by DashboardRollupService.
     public DashboardResponseDTO getDashboardMetrics() {
         List<Map<String, Object>> ordersByMonth = getOrdersByMonth();
         List<Map<String, Object>> topSellingProducts = getTopSellingProducts();
@@ -25,29 +26,28 @@ public class DashboardService {
 
     private List<Map<String, Object>> getOrdersByMonth() {
         String sql = "SELECT " +
-                "EXTRACT(YEAR FROM created_at) AS year, " +
-                "EXTRACT(MONTH FROM created_at) AS month, " +
-                "COUNT(*) AS order_count " +
-                "FROM orders " +
-                "GROUP BY EXTRACT(YEAR FROM created_at), EXTRACT(MONTH FROM created_at) " +
-                "ORDER BY year DESC, month DESC";
+                "EXTRACT(YEAR FROM period) AS \"year\", " +
+                "EXTRACT(MONTH FROM period) AS \"month\", " +
+                "order_count " +
+                "FROM dashboard_monthly_orders " +
+                "WHERE order_count > 0 " +
+                "ORDER BY period DESC";
         return jdbcTemplate.queryForList(sql);
     }
 
     private List<Map<String, Object>> getTopSellingProducts() {
         String sql = "SELECT " +
                 "p.name AS product_name, " +
-                "SUM(oi.quantity) AS total_quantity_sold " +
-                "FROM order_items oi " +
-                "JOIN products p ON oi.product_id = p.id " +
-                "GROUP BY p.name " +
-                "ORDER BY total_quantity_sold DESC " +
+                "s.units_sold AS total_quantity_sold " +
+                "FROM dashboard_product_sales s " +
+                "JOIN products p ON s.product_id = p.id " +
+                "ORDER BY s.units_sold DESC " +
                 "LIMIT 10"; // Limit to top 10 products
         return jdbcTemplate.queryForList(sql);
     }
 
     private BigDecimal getTotalSalesValue() {
-        String sql = "SELECT SUM(total) FROM orders WHERE status IN ('PAID', 'IN_PREPARATION', 'IN_DELIVERY', 'DELIVERED')";
+        String sql = "SELECT SUM(revenue) FROM dashboard_status_revenue WHERE status IN ('PAID', 'IN_PREPARATION', 'IN_DELIVERY', 'DELIVERED') AND order_count > 0";
         return jdbcTemplate.queryForObject(sql, BigDecimal.class);
     }
-}
\ No newline at end of file
+}
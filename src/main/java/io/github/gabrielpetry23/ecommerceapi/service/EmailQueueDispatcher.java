@@ -0,0 +1,183 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.model.EmailQueue;
+import io.github.gabrielpetry23.ecommerceapi.model.EmailStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Service
+@RequiredArgsConstructor
+public class EmailQueueDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(EmailQueueDispatcher.class);
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 1000;
+
+    private static final RowMapper<EmailQueue> EMAIL_ROW_MAPPER = (rs, rowNum) -> {
+        EmailQueue email = new EmailQueue();
+        email.setId(rs.getObject("id", UUID.class));
+        email.setRecipientEmail(rs.getString("recipient_email"));
+        email.setSubject(rs.getString("subject"));
+        email.setBody(rs.getString("body"));
+        email.setAttempts(rs.getInt("attempts"));
+        return email;
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EmailService emailService;
+
+    @Value("${app.email.dispatcher.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.email.dispatcher.concurrency:4}")
+    private int concurrency;
+
+    @Value("${app.email.dispatcher.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.email.dispatcher.backoff:30s}")
+    private Duration backoff;
+
+    @Value("${app.email.dispatcher.lease:10m}")
+    private Duration lease;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    void startExecutor() {
+        executor = Executors.newFixedThreadPool(concurrency);
+    }
+
+    @PreDestroy
+    void stopExecutor() {
+        executor.shutdown();
+    }
+
+    @Scheduled(fixedDelayString = "${app.email.dispatcher.poll-interval:5000}", initialDelayString = "${app.email.dispatcher.initial-delay:10000}")
+    public void dispatchPendingEmails() {
+        List<EmailQueue> batch;
+        do {
+            batch = claimBatch();
+            if (!batch.isEmpty()) {
+                deliver(batch);
+            }
+        } while (batch.size() == batchSize);
+    }
+
+    // Claimed rows are flipped to PROCESSING and the lock is released right away,
+    // so SMTP calls never run while holding row locks. Rows whose lease expires
+    // (e.g. the node died mid-send) become claimable again.
+    List<EmailQueue> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+
+            List<Object> args = new ArrayList<>();
+            StringBuilder sql = new StringBuilder("SELECT id, recipient_email, subject, body, attempts FROM email_queue WHERE ")
+                    .append("(status = ? AND (attempts = 0");
+            args.add(EmailStatus.PENDING.name());
+            for (int attempt = 1; attempt < maxAttempts; attempt++) {
+                sql.append(" OR (attempts = ? AND last_attempt_at <= ?)");
+                args.add(attempt);
+                args.add(now.minus(backoffFor(attempt)));
+            }
+            sql.append(")) OR (status = ? AND last_attempt_at <= ?) ORDER BY created_at LIMIT ? FOR UPDATE SKIP LOCKED");
+            args.add(EmailStatus.PROCESSING.name());
+            args.add(now.minus(lease));
+            args.add(batchSize);
+
+            List<EmailQueue> claimed = jdbcTemplate.query(sql.toString(), EMAIL_ROW_MAPPER, args.toArray());
+            if (claimed.isEmpty()) {
+                return claimed;
+            }
+
+            jdbcTemplate.batchUpdate(
+                    "UPDATE email_queue SET status = ?, attempts = attempts + 1, last_attempt_at = ?, updated_at = ? WHERE id = ?",
+                    claimed, claimed.size(), (ps, email) -> {
+                        ps.setString(1, EmailStatus.PROCESSING.name());
+                        ps.setObject(2, now);
+                        ps.setObject(3, now);
+                        ps.setObject(4, email.getId());
+                    });
+            claimed.forEach(email -> email.setAttempts(email.getAttempts() + 1));
+            return claimed;
+        });
+    }
+
+    private void deliver(List<EmailQueue> batch) {
+        List<CompletableFuture<Void>> sends = batch.stream()
+                .map(email -> CompletableFuture.runAsync(() -> emailService.deliver(email), executor)
+                        .handle((ignored, error) -> {
+                            markDelivered(email, error);
+                            return (Void) null;
+                        }))
+                .toList();
+
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+
+        List<EmailQueue> sent = batch.stream().filter(email -> email.getStatus() == EmailStatus.SENT).toList();
+        List<EmailQueue> failed = batch.stream().filter(email -> email.getStatus() != EmailStatus.SENT).toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!sent.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE email_queue SET status = ?, error_message = NULL, updated_at = ? WHERE id = ?",
+                        sent, sent.size(), (ps, email) -> {
+                            ps.setString(1, EmailStatus.SENT.name());
+                            ps.setObject(2, now);
+                            ps.setObject(3, email.getId());
+                        });
+            }
+            if (!failed.isEmpty()) {
+                jdbcTemplate.batchUpdate(
+                        "UPDATE email_queue SET status = ?, error_message = ?, updated_at = ? WHERE id = ?",
+                        failed, failed.size(), (ps, email) -> {
+                            ps.setString(1, email.getStatus().name());
+                            ps.setString(2, email.getErrorMessage());
+                            ps.setObject(3, now);
+                            ps.setObject(4, email.getId());
+                        });
+            }
+        });
+
+        if (!failed.isEmpty()) {
+            log.warn("Email dispatch: {} sent, {} failed", sent.size(), failed.size());
+        }
+    }
+
+    private void markDelivered(EmailQueue email, Throwable error) {
+        if (error == null) {
+            email.setStatus(EmailStatus.SENT);
+            return;
+        }
+
+        Throwable cause = error.getCause() != null ? error.getCause() : error;
+        String message = String.valueOf(cause.getMessage());
+        email.setErrorMessage(message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message);
+        email.setStatus(email.getAttempts() >= maxAttempts ? EmailStatus.FAILED : EmailStatus.PENDING);
+        log.error("Failed to send email {} (attempt {}/{}): {}", email.getId(), email.getAttempts(), maxAttempts, message);
+    }
+
+    private Duration backoffFor(int attempt) {
+        return backoff.multipliedBy(1L << Math.min(attempt - 1, 16));
+    }
+}
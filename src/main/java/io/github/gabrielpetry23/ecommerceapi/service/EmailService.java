@@ -2,24 +2,33 @@ package io.github.gabrielpetry23.ecommerceapi.service;
 
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.TrackingResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.EmailSendingException;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.model.EmailQueue;
+import io.github.gabrielpetry23.ecommerceapi.model.EmailStatus;
 import io.github.gabrielpetry23.ecommerceapi.model.Order;
 import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.TimeOrderedIdGenerator;
 import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.EmailQueueRepository;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.thymeleaf.TemplateEngine;
 import org.thymeleaf.context.Context;
 
+import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -29,95 +38,125 @@ public class EmailService {
 
     private final JavaMailSender javaMailSender;
     private final TemplateEngine templateEngine;
+    private final EmailQueueRepository emailQueueRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Value("${app.email.from}")
     private String emailFrom;
 
-    @Async
+    @Transactional
     public void sendWelcomeEmail(User user) {
-        try {
-            log.info("Attempting to send welcome email to: {}", user.getEmail());
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+        Context context = new Context();
+        context.setVariable("userName", user.getName());
+        context.setVariable("siteName", "EcommerceAPI");
 
-            Context context = new Context();
-            context.setVariable("userName", user.getName());
-            context.setVariable("siteName", "EcommerceAPI");
+        String htmlContent = templateEngine.process("emails/welcome-email", context);
 
-            String htmlContent = templateEngine.process("emails/welcome-email", context);
+        enqueue(user.getEmail(), "Bem-vindo(a) ao EcommerceAPI!", htmlContent);
+    }
 
-            helper.setTo(user.getEmail());
-            helper.setFrom(emailFrom);
-            helper.setSubject("Bem-vindo(a) ao EcommerceAPI!");
-            helper.setText(htmlContent, true);
+    @Transactional
+    public void sendOrderConfirmationEmail(User user, Order order) {
+        Context context = new Context();
+        context.setVariable("userName", user.getName());
+        context.setVariable("orderId", order.getId().toString().substring(0, 8));
+        context.setVariable("orderDate", order.getCreatedAt());
+        context.setVariable("totalAmount", order.getTotal());
+        context.setVariable("orderItems", order.getItems());
 
-            javaMailSender.send(mimeMessage);
-            log.info("Successfully sent welcome email to: {}", user.getEmail());
-        } catch (MailException | MessagingException e) {
-            log.error("Failed to send welcome email to {}: {}", user.getEmail(), e.getMessage(), e);
-            // Considere adicionar lógica de retry ou notificação de falha aqui.
-        }
+        String htmlContent = templateEngine.process("emails/order-confirmation-email", context);
+
+        enqueue(user.getEmail(), "Seu pedido #" + order.getId().toString().substring(0, 8) + " foi realizado com sucesso!", htmlContent);
     }
 
-    @Async
-    public void sendOrderConfirmationEmail(User user, Order order) {
-        try {
-            log.info("Attempting to send order confirmation email for order #{} to: {}", order.getId(), user.getEmail());
-            MimeMessage mimeMessage = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+    @Transactional
+    public void sendOrderStatusUpdateEmail(User user, Order order, String newStatus, TrackingResponseDTO trackingDetailsDTO) {
+        String templateName = getTemplateNameForOrderStatus(OrderStatus.valueOf(newStatus));
+        if (templateName == null) {
+            log.debug("No email template for order status {}, skipping email for order #{}", newStatus, order.getId());
+            return;
+        }
 
-            Context context = new Context();
-            context.setVariable("userName", user.getName());
-            context.setVariable("orderId", order.getId().toString().substring(0, 8));
-            context.setVariable("orderDate", order.getCreatedAt());
-            context.setVariable("totalAmount", order.getTotal());
-            context.setVariable("orderItems", order.getItems());
+        Context context = new Context();
+        context.setVariable("userName", user.getName());
+        context.setVariable("orderId", order.getId().toString().substring(0, 8));
+        context.setVariable("newStatus", newStatus);
+        context.setVariable("trackingDetails", trackingDetailsDTO);
+        context.setVariable("totalAmount", order.getTotal());
+        context.setVariable("orderItems", order.getItems());
 
-            String htmlContent = templateEngine.process("emails/order-confirmation-email", context);
+        String subject = getSubjectForOrderStatus(OrderStatus.valueOf(newStatus), order);
+        String htmlContent = templateEngine.process(templateName, context);
 
-            helper.setTo(user.getEmail());
-            helper.setFrom(emailFrom);
-            helper.setSubject("Seu pedido #" + order.getId().toString().substring(0, 8) + " foi realizado com sucesso!");
-            helper.setText(htmlContent, true);
+        enqueue(user.getEmail(), subject, htmlContent);
+    }
 
-            javaMailSender.send(mimeMessage);
-            log.info("Successfully sent order confirmation email for order #{} to: {}", order.getId(), user.getEmail());
-        } catch (MailException | MessagingException e) {
-            log.error("Failed to send order confirmation email for order #{} to {}: {}", order.getId(), user.getEmail(), e.getMessage(), e);
+    @Transactional
+    public void sendNewCouponEmail(Coupon coupon, List<String> recipientEmails) {
+        if (recipientEmails.isEmpty()) {
+            return;
         }
+
+        Context context = new Context();
+        context.setVariable("couponCode", coupon.getCode());
+        context.setVariable("discountDescription", describeDiscount(coupon));
+        context.setVariable("validUntil", coupon.getValidUntil());
+        context.setVariable("siteName", "EcommerceAPI");
+
+        String htmlContent = templateEngine.process("emails/new-coupon-email", context);
+        String subject = "Novo cupom disponível: " + coupon.getCode();
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO email_queue (id, recipient_email, subject, body, status, attempts, created_at, updated_at) VALUES (?, ?, ?, ?, ?, 0, ?, ?)",
+                recipientEmails, recipientEmails.size(), (ps, recipientEmail) -> {
+                    ps.setObject(1, TimeOrderedIdGenerator.next());
+                    ps.setString(2, recipientEmail);
+                    ps.setString(3, subject);
+                    ps.setString(4, htmlContent);
+                    ps.setString(5, EmailStatus.PENDING.name());
+                    ps.setObject(6, now);
+                    ps.setObject(7, now);
+                });
+
+        log.info("Queued {} coupon emails for coupon {}", recipientEmails.size(), coupon.getCode());
     }
 
-    @Async
-    public void sendOrderStatusUpdateEmail(User user, Order order, String newStatus, TrackingResponseDTO trackingDetailsDTO) {
+    public void deliver(EmailQueue email) {
         try {
-            log.info("Attempting to send order status update email for order #{} (status: {}) to: {}", order.getId(), newStatus, user.getEmail());
             MimeMessage mimeMessage = javaMailSender.createMimeMessage();
             MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
 
-            Context context = new Context();
-            context.setVariable("userName", user.getName());
-            context.setVariable("orderId", order.getId().toString().substring(0, 8));
-            context.setVariable("newStatus", newStatus);
-            context.setVariable("trackingDetails", trackingDetailsDTO);
-            context.setVariable("totalAmount", order.getTotal());
-            context.setVariable("orderItems", order.getItems());
-
-            String templateName = getTemplateNameForOrderStatus(OrderStatus.valueOf(newStatus));
-            String subject = getSubjectForOrderStatus(OrderStatus.valueOf(newStatus), order);
-
-            String htmlContent = templateEngine.process(templateName, context);
-
-            helper.setTo(user.getEmail());
+            helper.setTo(email.getRecipientEmail());
             helper.setFrom(emailFrom);
-            helper.setSubject(subject);
-            helper.setText(htmlContent, true);
+            helper.setSubject(email.getSubject());
+            helper.setText(email.getBody(), true);
 
             javaMailSender.send(mimeMessage);
-            log.info("Successfully sent order status update email for order #{} (status: {}) to: {}", order.getId(), newStatus, user.getEmail());
+            log.info("Successfully sent email {} to: {}", email.getId(), email.getRecipientEmail());
         } catch (MailException | MessagingException e) {
-            log.error("Failed to send order status update email for order #{} (status: {}) to {}: {}", order.getId(), newStatus, user.getEmail(), e.getMessage(), e);
-            throw new EmailSendingException("Failed to send order status update email for order #" + order.getId() + " (status: " + newStatus + ") to " + user.getEmail(), e);
+            throw new EmailSendingException("Failed to send email " + email.getId() + " to " + email.getRecipientEmail(), e);
+        }
+    }
+
+    private void enqueue(String recipientEmail, String subject, String body) {
+        EmailQueue email = new EmailQueue();
+        email.setRecipientEmail(recipientEmail);
+        email.setSubject(subject);
+        email.setBody(body);
+        email.setStatus(EmailStatus.PENDING);
+        emailQueueRepository.save(email);
+        log.info("Queued email '{}' to: {}", subject, recipientEmail);
+    }
+
+    private String describeDiscount(Coupon coupon) {
+        if (coupon.getDiscountPercentage() != null && coupon.getDiscountPercentage().compareTo(BigDecimal.ZERO) > 0) {
+            return String.format("Use the code below to get %.2f%% off your next order!", coupon.getDiscountPercentage());
+        }
+        if (coupon.getDiscountAmount() != null && coupon.getDiscountAmount().compareTo(BigDecimal.ZERO) > 0) {
+            return String.format("Use the code below to get R$ %.2f off your next order!", coupon.getDiscountAmount());
         }
+        return "Use the code below on your next order!";
     }
 
     private String getTemplateNameForOrderStatus(OrderStatus status) {
@@ -139,4 +178,4 @@ public class EmailService {
             default -> "Update for Your Order #" + orderIdShort;
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,233 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.IdempotencyKeyMismatchException;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.IdempotentRequestInProgressException;
+import io.github.gabrielpetry23.ecommerceapi.model.IdempotencyStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.TimeOrderedIdGenerator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+// Runs an operation at most once per user and Idempotency-Key. The key is claimed in its own
+// committed transaction so other nodes see it, and the operation commits together with the
+// stored result, so a retry either replays that result or finds no trace of the attempt.
+// Duplicates arriving while the first attempt runs wait for it: on the same node through the
+// in-flight future, on other nodes by polling the row.
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate claimTransactionTemplate;
+    private final Map<String, InFlight> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.idempotency.ttl:24h}")
+    private Duration ttl;
+
+    @Value("${app.idempotency.lease:30s}")
+    private Duration lease;
+
+    @Value("${app.idempotency.wait-timeout:10s}")
+    private Duration waitTimeout;
+
+    @Value("${app.idempotency.poll-interval:100ms}")
+    private Duration pollInterval;
+
+    public IdempotencyService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.claimTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // Returns the id of the resource the operation created, now or on an earlier request with the same key.
+    public UUID execute(UUID userId, String key, Object request, Supplier<UUID> operation) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException(HEADER + " must have between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+        String requestHash = fingerprint(request);
+        String localKey = userId + ":" + key;
+
+        InFlight mine = new InFlight(requestHash, new CompletableFuture<>());
+        InFlight running = inFlight.putIfAbsent(localKey, mine);
+        if (running != null) {
+            checkSameRequest(running.requestHash(), requestHash);
+            return await(running.result());
+        }
+
+        try {
+            UUID resourceId = executeOnce(userId, key, requestHash, operation);
+            mine.result().complete(resourceId);
+            return resourceId;
+        } catch (RuntimeException e) {
+            mine.result().completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(localKey, mine);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.idempotency.purge-interval:3600000}", initialDelayString = "${app.idempotency.purge-initial-delay:60000}")
+    public void purgeExpired() {
+        int purged = jdbcTemplate.update("DELETE FROM idempotency_keys WHERE expires_at < ?", LocalDateTime.now());
+        if (purged > 0) {
+            log.info("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    private UUID executeOnce(UUID userId, String key, String requestHash, Supplier<UUID> operation) {
+        long deadline = System.nanoTime() + waitTimeout.toNanos();
+        while (true) {
+            if (claim(userId, key, requestHash)) {
+                return run(userId, key, operation);
+            }
+
+            StoredKey stored = find(userId, key);
+            if (stored != null) {
+                checkSameRequest(stored.requestHash(), requestHash);
+                if (stored.status() == IdempotencyStatus.COMPLETED) {
+                    return stored.resourceId();
+                }
+            }
+
+            if (System.nanoTime() >= deadline) {
+                throw new IdempotentRequestInProgressException("A request with this " + HEADER + " is still being processed");
+            }
+            sleep(pollInterval);
+        }
+    }
+
+    // A new key is inserted; an existing one is only taken over when it is the same request
+    // and its holder's lease ran out. Expired results are dropped first so the key can be reused.
+    private boolean claim(UUID userId, String key, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            claimTransactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ? AND expires_at < ?",
+                        userId, key, now);
+                jdbcTemplate.update("INSERT INTO idempotency_keys (id, user_id, idempotency_key, request_hash, status, locked_until, expires_at, created_at) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                        TimeOrderedIdGenerator.next(), userId, key, requestHash, IdempotencyStatus.IN_PROGRESS.name(),
+                        now.plus(lease), now.plus(ttl), now);
+            });
+            return true;
+        } catch (DuplicateKeyException e) {
+            Integer taken = claimTransactionTemplate.execute(status -> jdbcTemplate.update(
+                    "UPDATE idempotency_keys SET locked_until = ? " +
+                            "WHERE user_id = ? AND idempotency_key = ? AND request_hash = ? AND status = ? AND locked_until < ?",
+                    now.plus(lease), userId, key, requestHash, IdempotencyStatus.IN_PROGRESS.name(), now));
+            return taken != null && taken == 1;
+        }
+    }
+
+    private UUID run(UUID userId, String key, Supplier<UUID> operation) {
+        try {
+            return transactionTemplate.execute(status -> {
+                // Held until commit, so a takeover after a lapsed lease waits and then finds the row completed
+                jdbcTemplate.queryForList("SELECT id FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ? FOR UPDATE",
+                        userId, key);
+                UUID resourceId = operation.get();
+                LocalDateTime now = LocalDateTime.now();
+                jdbcTemplate.update("UPDATE idempotency_keys SET status = ?, resource_id = ?, locked_until = ?, expires_at = ? " +
+                                "WHERE user_id = ? AND idempotency_key = ?",
+                        IdempotencyStatus.COMPLETED.name(), resourceId, now, now.plus(ttl), userId, key);
+                return resourceId;
+            });
+        } catch (RuntimeException e) {
+            // Nothing was committed, so the claim is released and a retry runs the operation again
+            claimTransactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                    "DELETE FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ? AND status = ?",
+                    userId, key, IdempotencyStatus.IN_PROGRESS.name()));
+            throw e;
+        }
+    }
+
+    private StoredKey find(UUID userId, String key) {
+        List<StoredKey> rows = jdbcTemplate.query(
+                "SELECT request_hash, status, resource_id FROM idempotency_keys WHERE user_id = ? AND idempotency_key = ?",
+                (rs, rowNum) -> new StoredKey(rs.getString("request_hash"),
+                        IdempotencyStatus.valueOf(rs.getString("status")),
+                        rs.getObject("resource_id", UUID.class)),
+                userId, key);
+        return rows.isEmpty() ? null : rows.getFirst();
+    }
+
+    private UUID await(CompletableFuture<UUID> result) {
+        try {
+            return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IdempotentRequestInProgressException("A request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException("Interrupted while waiting for the request with this " + HEADER);
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IdempotentRequestInProgressException("Interrupted while waiting for the request with this " + HEADER);
+        }
+    }
+
+    private static void checkSameRequest(String storedHash, String requestHash) {
+        if (!storedHash.equals(requestHash)) {
+            throw new IdempotencyKeyMismatchException(HEADER + " was already used with a different request body");
+        }
+    }
+
+    private String fingerprint(Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not fingerprint request", e);
+        }
+    }
+
+    private record InFlight(String requestHash, CompletableFuture<UUID> result) {
+    }
+
+    private record StoredKey(String requestHash, IdempotencyStatus status, UUID resourceId) {
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.exceptions.InsufficientStockException;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class InventoryService {
+
+    private static final String RESERVE_SQL =
+            "UPDATE products SET stock = stock - ?, updated_at = ? WHERE id = ? AND stock >= ?";
+
+    private static final String RELEASE_SQL =
+            "UPDATE products SET stock = stock + ?, updated_at = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final CatalogCache catalogCache;
+
+    @Transactional
+    public void reserve(List<OrderItem> items) {
+        List<Map.Entry<UUID, Integer>> lines = new ArrayList<>(quantitiesByProduct(items).entrySet());
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        int[] updated = jdbcTemplate.batchUpdate(RESERVE_SQL, lines, lines.size(), (ps, line) -> {
+            ps.setInt(1, line.getValue());
+            ps.setObject(2, now);
+            ps.setObject(3, line.getKey());
+            ps.setInt(4, line.getValue());
+        })[0];
+
+        for (int i = 0; i < updated.length; i++) {
+            if (updated[i] == 0) {
+                throw new InsufficientStockException("Insufficient stock for product " + lines.get(i).getKey());
+            }
+        }
+        evictFromCatalog(items);
+    }
+
+    @Transactional
+    public void release(List<OrderItem> items) {
+        List<Map.Entry<UUID, Integer>> lines = new ArrayList<>(quantitiesByProduct(items).entrySet());
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.batchUpdate(RELEASE_SQL, lines, lines.size(), (ps, line) -> {
+            ps.setInt(1, line.getValue());
+            ps.setObject(2, now);
+            ps.setObject(3, line.getKey());
+        });
+        evictFromCatalog(items);
+    }
+
+    private void evictFromCatalog(List<OrderItem> items) {
+        Set<UUID> productIds = new HashSet<>();
+        Set<UUID> categoryIds = new HashSet<>();
+        for (OrderItem item : items) {
+            if (item.getProduct() == null) {
+                continue;
+            }
+            productIds.add(item.getProduct().getId());
+            if (item.getProduct().getCategory() != null) {
+                categoryIds.add(item.getProduct().getCategory().getId());
+            }
+        }
+        catalogCache.evictProducts(productIds, categoryIds);
+    }
+
+    // Sorted by product id so concurrent checkouts always lock rows in the same order.
+    private Map<UUID, Integer> quantitiesByProduct(List<OrderItem> items) {
+        Map<UUID, Integer> quantities = new TreeMap<>();
+        for (OrderItem item : items) {
+            if (item.getProduct() == null || item.getQuantity() == null) {
+                continue;
+            }
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+}
@@ -0,0 +1,155 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// Hands notifications to the message broker off the caller's thread. Producers only
+// enqueue; a single worker drains the queue in batches and sends each notification to
+// its owner's user destination (/user/queue/notifications).
+@Component
+public class NotificationPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationPublisher.class);
+
+    static final String USER_DESTINATION = "/queue/notifications";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BlockingQueue<PendingNotification> queue;
+    private final int batchSize;
+    private final Duration pollTimeout;
+    private final Timer deliveryLatency;
+    private final Counter dropped;
+    private final Counter failed;
+
+    private ExecutorService worker;
+    private volatile boolean running;
+
+    public NotificationPublisher(SimpMessagingTemplate messagingTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.notifications.publisher.queue-capacity:10000}") int queueCapacity,
+                                 @Value("${app.notifications.publisher.batch-size:200}") int batchSize,
+                                 @Value("${app.notifications.publisher.poll-timeout:100ms}") Duration pollTimeout) {
+        this.messagingTemplate = messagingTemplate;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.pollTimeout = pollTimeout;
+        Gauge.builder("notifications.publisher.queue.depth", queue, BlockingQueue::size)
+                .register(meterRegistry);
+        this.deliveryLatency = Timer.builder("notifications.publisher.delivery.latency")
+                .description("Time from enqueue to broker hand-off")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("notifications.publisher.dropped")
+                .description("Notifications not published because the queue was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("notifications.publisher.failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void startWorker() {
+        running = true;
+        worker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "notification-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        worker.execute(this::drainLoop);
+    }
+
+    @PreDestroy
+    void stopWorker() throws InterruptedException {
+        running = false;
+        worker.shutdown();
+        worker.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    public void publish(NotificationResponseDTO notification) {
+        publishAll(List.of(notification));
+    }
+
+    // Inside a transaction the notifications are only queued after commit, so clients
+    // never see a notification that was rolled back or is not yet in their inbox.
+    public void publishAll(List<NotificationResponseDTO> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(notifications);
+                }
+            });
+        } else {
+            enqueue(notifications);
+        }
+    }
+
+    // Notifications are already persisted in the inbox, so a full queue drops the push
+    // instead of blocking the producer.
+    private void enqueue(List<NotificationResponseDTO> notifications) {
+        long now = System.nanoTime();
+        for (NotificationResponseDTO notification : notifications) {
+            if (!queue.offer(new PendingNotification(notification, now))) {
+                dropped.increment();
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<PendingNotification> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingNotification first = queue.poll(pollTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(List<PendingNotification> batch) {
+        for (PendingNotification pending : batch) {
+            NotificationResponseDTO notification = pending.notification();
+            try {
+                messagingTemplate.convertAndSendToUser(notification.userId().toString(), USER_DESTINATION, notification);
+                deliveryLatency.record(System.nanoTime() - pending.enqueuedAt(), TimeUnit.NANOSECONDS);
+            } catch (RuntimeException e) {
+                failed.increment();
+                log.warn("Failed to publish notification {} to user {}: {}", notification.id(), notification.userId(), e.getMessage());
+            }
+        }
+    }
+
+    private record PendingNotification(NotificationResponseDTO notification, long enqueuedAt) {
+    }
+}
@@ -3,30 +3,41 @@ package io.github.gabrielpetry23.ecommerceapi.service;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
 import io.github.gabrielpetry23.ecommerceapi.controller.mappers.NotificationMapper;
 import io.github.gabrielpetry23.ecommerceapi.model.Notification;
+import io.github.gabrielpetry23.ecommerceapi.model.TimeOrderedIdGenerator;
 import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.repository.NotificationRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final SimpMessagingTemplate messagingTemplate;
+    private final NotificationPublisher publisher;
     private final NotificationRepository repository;
     private final NotificationMapper mapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
 
+    @Transactional
     public void sendAndPersistNotification(User user, String type, String content) {
         Notification notification = new Notification();
         notification.setUser(user);
         notification.setType(type);
         notification.setContent(content);
         repository.save(notification);
+        userRepository.incrementUnreadNotificationCount(user.getId(), 1);
 
         NotificationResponseDTO dto = new NotificationResponseDTO(
                 notification.getId(),
@@ -36,34 +47,67 @@ public class NotificationService {
                 notification.getReadAt()
         );
 
-        String destination = "/topic/user-notifications/" + user.getId().toString();
-        messagingTemplate.convertAndSend(destination, dto);
+        publisher.publish(dto);
     }
 
-    public void markNotificationAsRead(UUID notificationId) {
-        repository.findById(notificationId).ifPresent(notification -> {
-            notification.setReadAt(LocalDateTime.now());
-            repository.save(notification);
-        });
+    @Transactional
+    public List<NotificationResponseDTO> persistAll(String type, Map<UUID, String> contentByUserId) {
+        if (contentByUserId.isEmpty()) {
+            return List.of();
+        }
+
+        List<NotificationResponseDTO> notifications = contentByUserId.entrySet().stream()
+                .map(entry -> new NotificationResponseDTO(TimeOrderedIdGenerator.next(), entry.getKey(), type, entry.getValue(), null))
+                .toList();
+        LocalDateTime now = LocalDateTime.now();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO notifications (id, user_id, type, content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                notifications, notifications.size(), (ps, notification) -> {
+                    ps.setObject(1, notification.id());
+                    ps.setObject(2, notification.userId());
+                    ps.setString(3, notification.type());
+                    ps.setString(4, notification.content());
+                    ps.setObject(5, now);
+                    ps.setObject(6, now);
+                });
+        jdbcTemplate.batchUpdate(
+                "UPDATE users SET unread_notification_count = unread_notification_count + 1 WHERE id = ?",
+                notifications, notifications.size(), (ps, notification) -> ps.setObject(1, notification.userId()));
+
+        return notifications;
     }
 
-    public void markAllNotificationsAsReadForUser(User user) {
-        List<Notification> unreadNotifications = repository.findByUserAndReadAtIsNullOrderByCreatedAtDesc(user);
-        unreadNotifications.forEach(notification -> notification.setReadAt(LocalDateTime.now()));
-        repository.saveAll(unreadNotifications);
+    public void publishAll(List<NotificationResponseDTO> notifications) {
+        publisher.publishAll(notifications);
     }
 
-    public List<NotificationResponseDTO> findAllNotificationsForUser(User user) {
-        List<Notification> notifications = repository.findByUserOrderByCreatedAtDesc(user);
-        return notifications.stream()
-                .map(mapper::toDTO)
-                .toList();
+    // The counter is adjusted by the rows actually flipped, so reads racing new
+    // notifications never drive it out of sync with the table.
+    @Transactional
+    public void markNotificationAsRead(UUID userId, UUID notificationId) {
+        int updated = repository.markAsRead(notificationId, userId, LocalDateTime.now());
+        if (updated > 0) {
+            userRepository.incrementUnreadNotificationCount(userId, -updated);
+        }
     }
 
-    public List<NotificationResponseDTO> findAllUnreadNotificationsForUser(User user) {
-        List<Notification> notifications = repository.findByUserAndReadAtIsNullOrderByCreatedAtDesc(user);
-        return notifications.stream()
-                .map(mapper::toDTO)
-                .toList();
+    @Transactional
+    public void markAllNotificationsAsReadForUser(UUID userId) {
+        int updated = repository.markAllAsRead(userId, LocalDateTime.now());
+        if (updated > 0) {
+            userRepository.incrementUnreadNotificationCount(userId, -updated);
+        }
+    }
+
+    public Window<NotificationResponseDTO> findNotificationsForUser(UUID userId, boolean unreadOnly, ScrollPosition position, int size) {
+        Window<Notification> notifications = unreadOnly
+                ? repository.findAllByUserIdAndReadAtIsNullOrderByCreatedAtDescIdDesc(userId, position, Limit.of(size))
+                : repository.findAllByUserIdOrderByCreatedAtDescIdDesc(userId, position, Limit.of(size));
+        return notifications.map(mapper::toDTO);
+    }
+
+    public int countUnreadNotificationsForUser(UUID userId) {
+        return userRepository.findUnreadNotificationCountById(userId).orElse(0);
     }
 }
\ No newline at end of file
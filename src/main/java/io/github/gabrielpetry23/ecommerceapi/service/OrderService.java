@@ -5,14 +5,19 @@ import io.github.gabrielpetry23.ecommerceapi.controller.mappers.OrderMapper;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.OperationNotAllowedException;
 import io.github.gabrielpetry23.ecommerceapi.model.*;
+import io.github.gabrielpetry23.ecommerceapi.repository.CartRepository;
 import io.github.gabrielpetry23.ecommerceapi.repository.OrderRepository;
 import io.github.gabrielpetry23.ecommerceapi.repository.TrackingDetailsRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CheckoutContext;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import io.github.gabrielpetry23.ecommerceapi.validators.UserValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,49 +36,53 @@ public class OrderService {
     private final UserValidator userValidator;
     private final SecurityService securityService;
     private final CartService cartService;
-    private final AddressService addressService;
-    private final PaymentMethodService paymentMethodService;
+    private final CartRepository cartRepository;
     private final OrderMapper mapper;
     private final TrackingDetailsRepository trackingDetailsRepository;
     private final CouponService couponService;
     private final NotificationService notificationService;
     private final EmailService emailService;
+    private final InventoryService inventoryService;
+    private final DashboardRollupService dashboardRollupService;
 
     @Transactional
     public Order createOrder(OrderRequestDTO dto) {
-        User currentUser = securityService.getCurrentUser();
+        UUID currentUserId = securityService.getCurrentUserId();
 
-        Cart cart = cartService.findById(currentUser.getCart().getId())
+        // Cart, items, products, address and payment method come back in a single query
+        CheckoutContext checkout = cartRepository.findCheckoutContext(currentUserId,
+                        UUID.fromString(dto.deliveryAddressId()), UUID.fromString(dto.paymentMethodId()))
+                .stream().findFirst()
                 .orElseThrow(() -> new EntityNotFoundException("Cart not found"));
+        Cart cart = checkout.cart();
 
         if (cart.getItems().isEmpty()) {
             throw new IllegalArgumentException("Cart is empty");
         }
 
-        Order order = new Order();
-        order.setUser(currentUser);
-        order.setStatus(OrderStatus.PENDING);
-        order.setTotal(cart.getTotal());
-        order.setItems(convertCartItemsToOrderItems(cart.getItems(), order));
-
-        Address addressFound = addressService.findById(UUID.fromString(dto.deliveryAddressId()))
-                .orElseThrow(() -> new EntityNotFoundException("Address not found"));
-
-        if (!addressFound.getUser().getId().equals(currentUser.getId())) {
+        Address addressFound = checkout.address();
+        if (addressFound == null) {
+            throw new EntityNotFoundException("Address not found");
+        }
+        if (!addressFound.getUser().getId().equals(currentUserId)) {
             throw new OperationNotAllowedException("Address does not belong to the user");
         }
 
-        order.setDeliveryAddress(addressFound);
-
-        PaymentMethod paymentMethodFound = paymentMethodService.findById(UUID.fromString(dto.paymentMethodId()))
-                .orElseThrow(() -> new EntityNotFoundException("Payment method not found"));
-
-        if (!paymentMethodFound.getUser().getId().equals(currentUser.getId())) {
+        PaymentMethod paymentMethodFound = checkout.paymentMethod();
+        if (paymentMethodFound == null) {
+            throw new EntityNotFoundException("Payment method not found");
+        }
+        if (!paymentMethodFound.getUser().getId().equals(currentUserId)) {
             throw new OperationNotAllowedException("Payment method does not belong to the user");
         }
 
+        Order order = new Order();
+        order.setUser(cart.getUser());
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotal(cart.getTotal());
+        order.setItems(convertCartItemsToOrderItems(cart.getItems(), order));
+        order.setDeliveryAddress(addressFound);
         order.setPaymentMethod(paymentMethodFound);
-
         order.setTrackingDetails(null);
 
         if (dto.couponCode() != null) {
@@ -82,9 +91,12 @@ public class OrderService {
             order.setTotal(calculateDiscountedTotal(order.getItems(), coupon));
         }
 
-        cartService.emptyCart(cart.getId());
+        cartService.emptyCart(cart);
+
+        inventoryService.reserve(order.getItems());
 
         repository.save(order);
+        dashboardRollupService.orderCreated(order);
 
         String createdContent = String.format("Seu pedido #%s foi criado com sucesso!", order.getId().toString().substring(0, 8));
         notificationService.sendAndPersistNotification(order.getUser(), "ORDER_CREATED", createdContent);
@@ -125,9 +137,18 @@ public class OrderService {
         return repository.findAll(pageable);
     }
 
+    public Window<Order> findAll(ScrollPosition position, int size) {
+        return repository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size));
+    }
+
+    @Transactional
     public Page<OrderResponseDTO> findAllOrdersDTOByUserId(UUID userId, Pageable pageable) {
-        return repository.findAllByUserId(userId, pageable)
-                .map(mapper::toDTO);
+        Page<Order> orders = repository.findAllByUserId(userId, pageable);
+        // Fills the page's item collections and their products in one query instead of one per order
+        if (orders.hasContent()) {
+            repository.findAllWithItemsByIdIn(orders.map(Order::getId).getContent());
+        }
+        return orders.map(mapper::toDTO);
     }
 
     @Transactional
@@ -147,6 +168,10 @@ public class OrderService {
 
         order.setStatus(newStatus);
 
+        if (newStatus == OrderStatus.CANCELLED) {
+            inventoryService.release(order.getItems());
+        }
+
         if (newStatus == OrderStatus.PAID && order.getTrackingDetails() == null) {
             TrackingDetails trackingDetails = new TrackingDetails();
             trackingDetails.setOrder(order);
@@ -165,17 +190,19 @@ public class OrderService {
         }
 
         repository.save(order);
+        dashboardRollupService.orderStatusChanged(order.getTotal(), oldStatus, newStatus);
 
         sendNotification(order, oldStatus, newStatus);
         sendEmail(order, newStatus);
     }
 
     private void sendEmail(Order order, OrderStatus newStatus) {
-        TrackingResponseDTO trackingDTO = new TrackingResponseDTO(
-                order.getTrackingDetails().getTrackingCode(),
-                order.getTrackingDetails().getCarrier(),
-                order.getTrackingDetails().getStatus(),
-                order.getTrackingDetails().getEstimatedDelivery()
+        TrackingDetails trackingDetails = order.getTrackingDetails();
+        TrackingResponseDTO trackingDTO = trackingDetails == null ? null : new TrackingResponseDTO(
+                trackingDetails.getTrackingCode(),
+                trackingDetails.getCarrier(),
+                trackingDetails.getStatus(),
+                trackingDetails.getEstimatedDelivery()
         );
         emailService.sendOrderStatusUpdateEmail(order.getUser(), order, newStatus.name(), trackingDTO);
     }
@@ -260,14 +287,16 @@ public class OrderService {
             throw new OperationNotAllowedException("Coupon already applied to this order.");
         }
 
+        BigDecimal oldTotal = order.getTotal();
         order.setCoupon(coupon);
         order.setTotal(calculateDiscountedTotal(order.getItems(), coupon));
 
         repository.save(order);
+        dashboardRollupService.orderTotalChanged(order.getStatus(), oldTotal, order.getTotal());
         return order;
     }
 
-    private BigDecimal calculateDiscountedTotal(List<OrderItem> items, Coupon coupon) {
+    static BigDecimal calculateDiscountedTotal(List<OrderItem> items, Coupon coupon) {
         BigDecimal originalTotal = items.stream()
                 .map(OrderItem::getPrice)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -0,0 +1,38 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.model.ProductRatingBucket;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRatingBucketRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class ProductRatingService {
+
+    private final ProductRepository productRepository;
+    private final ProductRatingBucketRepository bucketRepository;
+
+    @Transactional
+    public void reviewAdded(UUID productId, int rating) {
+        apply(productId, rating, 1);
+    }
+
+    @Transactional
+    public void reviewRemoved(UUID productId, int rating) {
+        apply(productId, rating, -1);
+    }
+
+    // The product row is updated first, so concurrent reviews of the same product
+    // serialize on its lock before touching the histogram and the insert below cannot race.
+    private void apply(UUID productId, int rating, int delta) {
+        productRepository.incrementRatings(productId, delta, (long) rating * delta);
+
+        if (bucketRepository.increment(productId, rating, delta) == 0 && delta > 0) {
+            bucketRepository.save(new ProductRatingBucket(productId, rating, (long) delta));
+        }
+    }
+}
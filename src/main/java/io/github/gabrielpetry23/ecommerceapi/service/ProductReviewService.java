@@ -10,12 +10,12 @@ import io.github.gabrielpetry23.ecommerceapi.repository.ProductReviewRepository;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import io.github.gabrielpetry23.ecommerceapi.validators.UserValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,11 +40,9 @@ public class ProductReviewService {
         return repository.save(review);
     }
 
-    public List<ProductReviewResponseDTO> findAllProductReviewsDTOByProductId(UUID productId) {
-        return repository.findAllByProductId(productId)
-                .stream()
-                .map(mapper::toDTO)
-                .collect(Collectors.toList());
+    public Page<ProductReviewResponseDTO> findAllProductReviewsDTOByProductId(UUID productId, int page, int size) {
+        return repository.findSummariesByProductId(productId, PageRequest.of(page, size))
+                .map(mapper::toDTO);
     }
 
     public void delete(ProductReview review) {
@@ -1,24 +1,30 @@
 package io.github.gabrielpetry23.ecommerceapi.service;
 
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.*;
+import io.github.gabrielpetry23.ecommerceapi.controller.mappers.ProductMapper;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
 import io.github.gabrielpetry23.ecommerceapi.exceptions.InvalidFieldException;
 import io.github.gabrielpetry23.ecommerceapi.model.*;
 import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
-import io.github.gabrielpetry23.ecommerceapi.repository.specs.ProductSpecs;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
+import io.github.gabrielpetry23.ecommerceapi.repository.search.ProductSearchCriteria;
+import io.github.gabrielpetry23.ecommerceapi.repository.search.ProductSearchEngine;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import io.github.gabrielpetry23.ecommerceapi.validators.CategoryValidator;
 import io.github.gabrielpetry23.ecommerceapi.validators.ProductValidator;
 import io.github.gabrielpetry23.ecommerceapi.validators.UserValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -35,54 +41,71 @@ public class ProductService {
     private final CategoryService categoryService;
     private final ProductImageService productImageService;
     private final UserValidator userValidator;
+    private final List<ProductSearchEngine> searchEngines;
+    private final ProductMapper mapper;
+    private final CatalogCache catalogCache;
+    private final ProductRatingService ratingService;
+
+    @Value("${app.search.default-engine:spec}")
+    private String defaultSearchEngine;
 
     @Transactional
     public Product save(Product product) {
         validator.validateNewProduct(product);
         User currentUser = securityService.getCurrentUser();
         product.setUser(currentUser);
-        return repository.save(product);
+        Product saved = repository.save(product);
+        catalogCache.evictProduct(saved.getId(), categoryIdOf(saved));
+        return saved;
     }
 
     public Optional<Product> findById(UUID id) {
         return repository.findById(id);
     }
 
+    public Optional<ProductResponseDTO> findDTOById(UUID id) {
+        return Optional.ofNullable(catalogCache.getProduct(id, this::loadDTO));
+    }
+
+    // Listings embed each product's category, so category edits count as catalog changes too.
+    public CatalogVersion findCatalogVersion() {
+        return catalogCache.getProductsVersion(() -> repository.findCatalogVersion().and(categoryService.findCatalogVersion()));
+    }
+
     public Page<Product> listAll(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
         return repository.findAll(pageable);
     }
 
-    public Page<Product> search(String name, String categoryName, String description, BigDecimal price, BigDecimal maxPrice, BigDecimal minPrice, Integer stock, Integer page, Integer pageSize) {
-
-        Specification<Product> specs = Specification.where((root, query, cb) -> cb.conjunction());
+    public Window<Product> listAll(ScrollPosition position, int size) {
+        return repository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size));
+    }
 
-        if (name != null) {
-            specs = specs.and(ProductSpecs.nameLike(name));
-        }
-        if (categoryName != null) {
-            specs = specs.and(ProductSpecs.categoryNameEqual(categoryName));
-        }
-        if (description != null) {
-            specs = specs.and(ProductSpecs.descriptionContainsKeywords(description));
-        }
-        if (price != null) {
-            specs = specs.and(ProductSpecs.priceEqual(price));
-        }
+    public Page<Product> search(String engine, ProductSearchCriteria criteria, Integer page, Integer pageSize) {
+        return resolveSearchEngine(engine).search(criteria, PageRequest.of(page, pageSize));
+    }
 
-        if (minPrice != null) {
-            specs = specs.and(ProductSpecs.priceGreaterThanOrEqualTo(minPrice));
+    public List<String> autocomplete(String engine, String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
         }
+        return resolveSearchEngine(engine).autocomplete(prefix.trim(), limit);
+    }
 
-        if (maxPrice != null) {
-            specs = specs.and(ProductSpecs.priceLessThanOrEqualTo(maxPrice));
-        }
+    private ProductSearchEngine resolveSearchEngine(String engine) {
+        String requested = engine == null ? defaultSearchEngine : engine.toLowerCase();
+        ProductSearchEngine found = searchEngines.stream()
+                .filter(candidate -> candidate.name().equals(requested))
+                .findFirst()
+                .orElseThrow(() -> new InvalidFieldException("engine", "Unknown search engine: " + engine));
 
-        if (stock != null) {
-            specs = specs.and(ProductSpecs.stockGreaterThanOrEqualTo(stock));
+        if (found.isSupported()) {
+            return found;
         }
-
-        return repository.findAll(specs, PageRequest.of(page, pageSize));
+        return searchEngines.stream()
+                .filter(candidate -> candidate.name().equals(ProductSearchEngine.SPECIFICATION))
+                .findFirst()
+                .orElseThrow();
     }
 
     @Transactional
@@ -91,9 +114,12 @@ public class ProductService {
                 .orElseThrow(() -> new EntityNotFoundException("Product not found"));
 
         ProductReview review = reviewService.createProductReviewForProduct(product, reviewDto);
+        ratingService.reviewAdded(productId, review.getRating());
 
         product.getReviews().add(review);
+        product.setUpdatedAt(LocalDateTime.now());
         repository.save(product);
+        catalogCache.evictProduct(productId, categoryIdOf(product));
         return review;
     }
 
@@ -113,7 +139,9 @@ public class ProductService {
 
         ProductImage image = productImageService.createImage(product, imageDto);
         product.getImages().add(image);
+        product.setUpdatedAt(LocalDateTime.now());
         repository.save(product);
+        catalogCache.evictProduct(productId, categoryIdOf(product));
         return image;
     }
 
@@ -122,12 +150,14 @@ public class ProductService {
         Product product = repository.findById(uuid)
                 .orElseThrow(() -> new IllegalArgumentException("Product not found"));
         repository.delete(product);
+        catalogCache.evictProduct(uuid, categoryIdOf(product));
     }
 
     @Transactional
     public void updateProduct(UUID id, ProductUpdateDTO dto) {
         Product product = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+        UUID previousCategoryId = categoryIdOf(product);
 
         Category category = categoryService.findById(dto.categoryId())
                 .orElseThrow(() -> new EntityNotFoundException("Category not found"));
@@ -145,6 +175,7 @@ public class ProductService {
         validator.validateNewProduct(product);
 
         repository.save(product);
+        catalogCache.evictProduct(id, previousCategoryId, category.getId());
     }
 
     @Transactional
@@ -167,33 +198,52 @@ public class ProductService {
 
         product.getImages().remove(image);
         productImageService.delete(image);
+        product.setUpdatedAt(LocalDateTime.now());
         repository.save(product);
+        catalogCache.evictProduct(product.getId(), categoryIdOf(product));
     }
 
     @Transactional
     public void deleteReview(String id, String reviewId) {
+        Product product = repository.findById(UUID.fromString(id))
+                .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+
         ProductReview review = reviewService.findById(UUID.fromString(reviewId))
+                .filter(r -> r.getProduct().getId().equals(product.getId()))
                 .orElseThrow(() -> new EntityNotFoundException("Review not found"));
 
         userValidator.validateCurrentUserAccessOrAdmin(review.getUser().getId());
 
-        Product product = repository.findById(UUID.fromString(id))
-                .orElseThrow(() -> new EntityNotFoundException("Product not found"));
-
         product.getReviews().remove(review);
         reviewService.delete(review);
+        ratingService.reviewRemoved(product.getId(), review.getRating());
+        product.setUpdatedAt(LocalDateTime.now());
         repository.save(product);
+        catalogCache.evictProduct(product.getId(), categoryIdOf(product));
     }
 
-    public List<ProductReviewResponseDTO> findAllProductReviewsDTOByProductId(String productId) {
-        repository.findById(UUID.fromString(productId))
-                .orElseThrow(() -> new EntityNotFoundException("Product not found"));
+    public Page<ProductReviewResponseDTO> findAllProductReviewsDTOByProductId(String productId, int page, int size) {
+        UUID id = UUID.fromString(productId);
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("Product not found");
+        }
 
-        return reviewService.findAllProductReviewsDTOByProductId(UUID.fromString(productId));
+        return reviewService.findAllProductReviewsDTOByProductId(id, page, size);
     }
 
     public void validateExistingCategoryId(UUID categoryId) {
         categoryValidator.validateExistingCategoryId(categoryId);
 
     }
+
+    // Loads category, images and reviews with one query each instead of lazy loading,
+    // so cache misses do not depend on an open persistence context.
+    private ProductResponseDTO loadDTO(UUID id) {
+        List<Product> products = repository.findAllWithCategoryByIdIn(List.of(id));
+        return products.isEmpty() ? null : mapper.toDTOBatch(products).apply(products.getFirst());
+    }
+
+    private UUID categoryIdOf(Product product) {
+        return product.getCategory() != null ? product.getCategory().getId() : null;
+    }
 }
@@ -6,11 +6,15 @@ import io.github.gabrielpetry23.ecommerceapi.model.Address;
 import io.github.gabrielpetry23.ecommerceapi.model.PaymentMethod;
 import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import io.github.gabrielpetry23.ecommerceapi.security.PrincipalCache;
 import io.github.gabrielpetry23.ecommerceapi.validators.UserValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -32,6 +36,7 @@ public class UserService {
     private final OrderService orderService;
     private final NotificationService notificationService;
     private final EmailService emailService;
+    private final PrincipalCache principalCache;
 
     @Transactional
     public void save(User user) {
@@ -53,6 +58,7 @@ public class UserService {
         User user = repository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
         repository.delete(user);
+        principalCache.evict(user.getEmail());
     }
 
     public Page<User> findAll(int page, int size) {
@@ -60,6 +66,10 @@ public class UserService {
         return repository.findAll(pageable);
     }
 
+    public Window<User> findAll(ScrollPosition position, int size) {
+        return repository.findAllByOrderByCreatedAtDescIdDesc(position, Limit.of(size));
+    }
+
     @Transactional
     public Address addAddress(UUID userId, AddressDTO dto) {
 
@@ -99,6 +109,7 @@ public class UserService {
         }
 
         User user = userOptional.get();
+        principalCache.evict(user.getEmail());
 
         if (dto.name() != null) {
             user.setName(dto.name());
@@ -113,6 +124,7 @@ public class UserService {
         }
 
         repository.save(user);
+        principalCache.evict(user.getEmail());
     }
 
     public List<AddressDTO> findAllAddressesDTOByUserId(UUID id) {
@@ -224,39 +236,39 @@ public class UserService {
         return orderService.findAllOrdersDTOByUserId(UUID.fromString(userId), pageable);
     }
 
-    public List<NotificationResponseDTO> findAllNotificationsByUserId(String userId) {
-        User user = repository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        validator.validateCurrentUserAccessOrAdmin(user.getId());
+    public Window<NotificationResponseDTO> findNotificationsByUserId(String userId, boolean unreadOnly, ScrollPosition position, int size) {
+        UUID id = findExistingUserId(userId);
+        validator.validateCurrentUserAccessOrAdmin(id);
 
-        return notificationService.findAllNotificationsForUser(user);
+        return notificationService.findNotificationsForUser(id, unreadOnly, position, size);
     }
 
-    public List<NotificationResponseDTO> findAllUnreadNotificationsByUserId(String userId) {
-        User user = repository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
-
-        validator.validateCurrentUserAccessOrAdmin(user.getId());
+    public NotificationCountDTO countUnreadNotificationsByUserId(String userId) {
+        UUID id = findExistingUserId(userId);
+        validator.validateCurrentUserAccessOrAdmin(id);
 
-        return notificationService.findAllUnreadNotificationsForUser(user);
+        return new NotificationCountDTO(notificationService.countUnreadNotificationsForUser(id));
     }
 
     public void markAllNotificationsAsReadByUserId(String userId) {
-        User user = repository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        UUID id = findExistingUserId(userId);
+        validator.validateCurrentUserAccess(id);
 
-        validator.validateCurrentUserAccess(user.getId());
-
-        notificationService.markAllNotificationsAsReadForUser(user);
+        notificationService.markAllNotificationsAsReadForUser(id);
     }
 
     public void markNotificationAsReadByUserIdAndNotificationId(String userId, String notificationId) {
-        User user = repository.findById(UUID.fromString(userId))
-                .orElseThrow(() -> new EntityNotFoundException("User not found"));
+        UUID id = findExistingUserId(userId);
+        validator.validateCurrentUserAccess(id);
 
-        validator.validateCurrentUserAccess(user.getId());
+        notificationService.markNotificationAsRead(id, UUID.fromString(notificationId));
+    }
 
-        notificationService.markNotificationAsRead(UUID.fromString(notificationId));
+    private UUID findExistingUserId(String userId) {
+        UUID id = UUID.fromString(userId);
+        if (!repository.existsById(id)) {
+            throw new EntityNotFoundException("User not found");
+        }
+        return id;
     }
 }
@@ -1,6 +1,5 @@
 package io.github.gabrielpetry23.ecommerceapi.validators;
 
-import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -15,15 +14,14 @@ public class UserValidator {
     private final SecurityService securityService;
 
     public void validateCurrentUserAccess(UUID userId) {
-        if (!securityService.getCurrentUser().getId().equals(userId)) {
+        if (!userId.equals(securityService.getCurrentUserId())) {
             throw new AccessDeniedException("Access denied.");
         }
     }
 
     public void validateCurrentUserAccessOrAdmin(UUID userId) {
-        User currentUser = securityService.getCurrentUser();
-        boolean isSameUser = currentUser.getId().equals(userId);
-        String role = currentUser.getRole();
+        boolean isSameUser = userId.equals(securityService.getCurrentUserId());
+        String role = securityService.getCurrentUserRole();
         boolean isPrivileged = "ADMIN".equals(role) || "MANAGER".equals(role);
 
         if (!isSameUser && !isPrivileged) {
@@ -0,0 +1,26 @@
+-- Indexes for the filters used by the hot repository queries. Checked by QueryPlanIntegrationTest.
+-- Built CONCURRENTLY so writes keep flowing; Flyway runs this script outside a transaction.
+-- A failed concurrent build leaves an INVALID index behind: drop it before re-running.
+
+-- Order history per user, newest first, and the admin status filters
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_user_id_created_at ON orders (user_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_status_created_at ON orders (status, created_at);
+
+-- Cart lookup by owner and the abandoned-cart reminder scan
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_carts_user_id ON carts (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_carts_updated_at ON carts (updated_at);
+
+-- Paginated reviews per product
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_reviews_product_id_created_at ON product_reviews (product_id, created_at DESC, id DESC);
+
+-- Category listings and name autocomplete
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_category_id ON products (category_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_lower_name ON products (lower(name) text_pattern_ops);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_product_images_product_id ON product_images (product_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_methods_user_id ON payment_methods (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_addresses_user_id ON addresses (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_cart_items_product_id ON cart_items (product_id);
+
+-- The dispatcher only ever claims PENDING or PROCESSING rows, so sent mail stays out of the index
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_email_queue_claimable ON email_queue (created_at) WHERE status IN ('PENDING', 'PROCESSING');
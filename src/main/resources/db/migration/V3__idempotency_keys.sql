@@ -0,0 +1,19 @@
+-- Idempotency-Key claims and results for POST /orders, one row per user and key.
+-- Rows are deleted once expires_at passes; locked_until bounds how long an in-progress
+-- claim blocks retries if its node dies mid-request.
+CREATE TABLE idempotency_keys (
+    id UUID NOT NULL PRIMARY KEY,
+    user_id UUID NOT NULL,
+    idempotency_key VARCHAR(255) NOT NULL,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(50) NOT NULL,
+    resource_id UUID,
+    locked_until TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_idempotency_keys_user_key UNIQUE (user_id, idempotency_key),
+    CONSTRAINT fk_user_idempotency_key FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    CONSTRAINT chk_idempotency_status CHECK (status IN ('IN_PROGRESS', 'COMPLETED'))
+);
+
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,25 @@
+-- Indexes that went with the V4 catch-up, built CONCURRENTLY like V2 so writes keep flowing
+-- on the live tables; Flyway runs this script outside a transaction.
+-- A failed concurrent build leaves an INVALID index behind: drop it before re-running.
+
+-- Full-text search over name and description. An expression index, so no stored column has
+-- to be added and backfilled; PostgresFullTextProductSearchEngine repeats the expression.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_search_document ON products USING GIN ((
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+    setweight(to_tsvector('simple', coalesce(description, '')), 'B')));
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_name_trgm ON products USING GIN (name gin_trgm_ops);
+
+-- Keyset pagination on the admin listings
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_created_at_id ON products (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_orders_created_at_id ON orders (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at_id ON users (created_at, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_coupons_created_at_id ON coupons (created_at, id);
+
+-- Catalog version lookups for conditional GETs
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_products_updated_at ON products (updated_at);
+
+-- Notification inbox keyset and unread pages; the indexes they replace go once these exist
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_id_created_at_id ON notifications (user_id, created_at DESC, id DESC);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_notifications_user_id_unread ON notifications (user_id, created_at DESC, id DESC) WHERE read_at IS NULL;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notifications_user_id;
+DROP INDEX CONCURRENTLY IF EXISTS idx_notifications_user_id_read_at;
@@ -0,0 +1,70 @@
+-- Brings databases baselined at V1 up to date with the columns and tables that were added
+-- while the schema still lived in schema.sql; V4_1 builds the matching indexes on the existing
+-- tables concurrently. Every statement is guarded, so it is a no-op where the old schema.sql
+-- already applied it. The backfills read every review and notification, but only write the
+-- counter rows that disagree with them, which is none where the counters were already kept.
+
+-- Dashboard rollups maintained by DashboardRollupService
+CREATE TABLE IF NOT EXISTS dashboard_monthly_orders (
+    period DATE NOT NULL PRIMARY KEY,
+    order_count BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dashboard_product_sales (
+    product_id UUID NOT NULL PRIMARY KEY,
+    units_sold BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS dashboard_status_revenue (
+    status VARCHAR(50) NOT NULL PRIMARY KEY,
+    order_count BIGINT NOT NULL,
+    revenue NUMERIC(18,2) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_dashboard_product_sales_units_sold ON dashboard_product_sales (units_sold);
+
+-- Fuzzy product name search; its indexes are built in V4_1
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Catalog version lookups for conditional GETs
+ALTER TABLE categories ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP;
+
+-- Denormalized review count, rating sum and per-rating histogram on products
+ALTER TABLE products ADD COLUMN IF NOT EXISTS review_count INT NOT NULL DEFAULT 0;
+ALTER TABLE products ADD COLUMN IF NOT EXISTS rating_sum BIGINT NOT NULL DEFAULT 0;
+
+CREATE TABLE IF NOT EXISTS product_rating_buckets (
+    product_id UUID NOT NULL,
+    rating INT NOT NULL,
+    review_count BIGINT NOT NULL,
+    PRIMARY KEY (product_id, rating),
+    CONSTRAINT fk_product_rating_bucket FOREIGN KEY (product_id) REFERENCES products(id) ON DELETE CASCADE
+);
+
+UPDATE products p SET review_count = r.review_count, rating_sum = r.rating_sum
+FROM (SELECT product_id, COUNT(*) AS review_count, SUM(rating) AS rating_sum
+      FROM product_reviews GROUP BY product_id) r
+WHERE r.product_id = p.id AND (p.review_count <> r.review_count OR p.rating_sum <> r.rating_sum);
+
+UPDATE products p SET review_count = 0, rating_sum = 0
+WHERE (p.review_count <> 0 OR p.rating_sum <> 0)
+  AND NOT EXISTS (SELECT 1 FROM product_reviews r WHERE r.product_id = p.id);
+
+INSERT INTO product_rating_buckets (product_id, rating, review_count)
+SELECT product_id, rating, COUNT(*) FROM product_reviews GROUP BY product_id, rating
+ON CONFLICT (product_id, rating) DO UPDATE SET review_count = EXCLUDED.review_count
+WHERE product_rating_buckets.review_count <> EXCLUDED.review_count;
+
+DELETE FROM product_rating_buckets b
+WHERE NOT EXISTS (SELECT 1 FROM product_reviews r WHERE r.product_id = b.product_id AND r.rating = b.rating);
+
+-- Unread notification counter behind the notification inbox
+ALTER TABLE users ADD COLUMN IF NOT EXISTS unread_notification_count INT NOT NULL DEFAULT 0;
+
+UPDATE users u SET unread_notification_count = n.unread
+FROM (SELECT user_id, COUNT(*) AS unread FROM notifications WHERE read_at IS NULL GROUP BY user_id) n
+WHERE n.user_id = u.id AND u.unread_notification_count <> n.unread;
+
+UPDATE users u SET unread_notification_count = 0
+WHERE u.unread_notification_count <> 0
+  AND NOT EXISTS (SELECT 1 FROM notifications n WHERE n.user_id = u.id AND n.read_at IS NULL);
@@ -0,0 +1,8 @@
+-- Reconciliation generation for the dashboard rollups. Deltas remember the generation seen
+-- by their order transaction and are dropped if a reconciliation has counted the order since.
+CREATE TABLE dashboard_rollup_state (
+    id INT NOT NULL PRIMARY KEY,
+    generation BIGINT NOT NULL
+);
+
+INSERT INTO dashboard_rollup_state (id, generation) VALUES (1, 0);
@@ -0,0 +1,183 @@
+-- DADOS INICIAIS PARA TESTE E DEMONSTRAÇÃO
+-- Callback afterMigrate do Flyway, carregado só no perfil dev: roda depois de toda migração e
+-- fica fora do histórico de versões. Cada INSERT ignora linhas que já existem, então o script
+-- pode rodar de novo sobre um banco já populado.
+
+-- USUÁRIOS
+INSERT INTO users (id, name, email, password, role, created_at, updated_at) VALUES
+    (gen_random_uuid(), 'Gabriel Silva', 'gabriel.user@example.com', '$2a$10$bPcz1FRL4KD3zgmUfq2KJeJppGyS0/eEPyc.fLe5HUYzM/zebZvd6', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), -- gabriel123
+    (gen_random_uuid(), 'Ana Gerente', 'gerente.admin@example.com', '$2a$10$P.Npi8ciMlNjgnHNazmM3et8ZunWtU9C5M77lNTIun1pTfVENjMVy', 'MANAGER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), -- gerente123
+    (gen_random_uuid(), 'Maria Souza', 'maria.customer@example.com', '$2a$10$1KVva43JqEE3jneySMYidO7/phJ.w5qjQXwYuiQ0H0VVlzzDfL4oS', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP), -- maria123
+    (gen_random_uuid(), 'João Pereira', 'joao.customer@example.com', '$2a$10$lu3Ok7dmyiVV62T.sMb5HuiIzUmgAUTe50UXoscow4k5ukcOM/AHm', 'USER', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP) -- joao123
+ON CONFLICT DO NOTHING;
+
+-- CATEGORIAS
+INSERT INTO categories (id, name) VALUES
+    (gen_random_uuid(), 'Eletrônicos'),
+    (gen_random_uuid(), 'Roupas'),
+    (gen_random_uuid(), 'Livros'),
+    (gen_random_uuid(), 'Casa e Cozinha'),
+    (gen_random_uuid(), 'Esportes e Lazer')
+ON CONFLICT DO NOTHING;
+
+-- PRODUTOS
+INSERT INTO products (id, name, description, price, stock, user_id, category_id, created_at, updated_at)
+SELECT gen_random_uuid(), v.name, v.description, v.price, v.stock,
+       (SELECT id FROM users WHERE email = 'gerente.admin@example.com'),
+       c.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM (VALUES
+    ('Laptop Gamer XYZ', 'Notebook de alta performance para jogos com RTX 3080.', 7500.00, 15, 'Eletrônicos'),
+    ('Smart TV 55 polegadas', 'TV 4K com HDR e sistema operacional inteligente.', 3200.00, 25, 'Eletrônicos'),
+    ('Fone de Ouvido Bluetooth', 'Fones sem fio com cancelamento de ruído.', 250.00, 120, 'Eletrônicos'),
+    ('Camiseta Algodão Orgânico', 'Camiseta confortável e sustentável em diversas cores.', 59.90, 200, 'Roupas'),
+    ('Calça Jeans Skinny', 'Calça jeans de corte moderno, cintura alta.', 120.00, 150, 'Roupas'),
+    ('O Guia do Mochileiro das Galáxias', 'Clássico da ficção científica por Douglas Adams.', 45.00, 80, 'Livros')
+) AS v(name, description, price, stock, category)
+JOIN categories c ON c.name = v.category
+WHERE NOT EXISTS (SELECT 1 FROM products p WHERE p.name = v.name);
+
+-- IMAGENS DE PRODUTOS
+INSERT INTO product_images (id, product_id, image_url, is_main)
+SELECT gen_random_uuid(), p.id, v.image_url, v.is_main
+FROM (VALUES
+    ('Laptop Gamer XYZ', 'http://example.com/images/laptop_gamer_main.jpg', TRUE),
+    ('Laptop Gamer XYZ', 'http://example.com/images/laptop_gamer_side.jpg', FALSE),
+    ('Smart TV 55 polegadas', 'http://example.com/images/smarttv_main.jpg', TRUE),
+    ('Fone de Ouvido Bluetooth', 'http://example.com/images/fone_main.jpg', TRUE)
+) AS v(product, image_url, is_main)
+JOIN products p ON p.name = v.product
+WHERE NOT EXISTS (SELECT 1 FROM product_images i WHERE i.image_url = v.image_url);
+
+-- ENDEREÇOS
+INSERT INTO addresses (id, user_id, street, number, complement, city, state, zip_code, country)
+SELECT gen_random_uuid(), u.id, v.street, v.number, v.complement, v.city, v.state, v.zip_code, v.country
+FROM (VALUES
+    ('gabriel.user@example.com', 'Rua das Flores', '123', 'Apto 101', 'São Paulo', 'SP', '01000-000', 'Brasil'),
+    ('gerente.admin@example.com', 'Avenida Principal', '456', NULL, 'Rio de Janeiro', 'RJ', '20000-000', 'Brasil'),
+    ('maria.customer@example.com', 'Alameda dos Sonhos', '789', 'Casa B', 'Belo Horizonte', 'MG', '30000-000', 'Brasil'),
+    ('joao.customer@example.com', 'Travessa da Paz', '10', NULL, 'Porto Alegre', 'RS', '90000-000', 'Brasil')
+) AS v(email, street, number, complement, city, state, zip_code, country)
+JOIN users u ON u.email = v.email
+WHERE NOT EXISTS (SELECT 1 FROM addresses a WHERE a.user_id = u.id);
+
+-- MÉTODOS DE PAGAMENTO
+INSERT INTO payment_methods (id, type, provider, payment_token, last4_digits, card_brand, user_id, created_at, updated_at) VALUES
+    (gen_random_uuid(), 'CREDIT_CARD', 'Visa', 'tok_visa_1234567890abc', '1234', 'Visa', (SELECT id FROM users WHERE email = 'gabriel.user@example.com'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), 'DEBIT_CARD', 'Mastercard', 'tok_mc_9876543210def', '5678', 'Mastercard', (SELECT id FROM users WHERE email = 'maria.customer@example.com'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), 'PIX', 'Banco Central', 'pix_chave_joao@example.com', NULL, NULL, (SELECT id FROM users WHERE email = 'joao.customer@example.com'), CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+ON CONFLICT DO NOTHING;
+
+-- CUPONS
+INSERT INTO coupons (id, code, discount_amount, discount_percentage, valid_until, is_active, created_at, updated_at) VALUES
+    (gen_random_uuid(), 'DESCONTO10', 10.00, 0.00, '2025-12-31', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), 'PRIMEIRACOMPRA20', 0.00, 20.00, '2025-11-30', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), 'FRETEGRATIS', 0.00, 0.00, '2024-07-15', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), 'CUPOMEXPIRADO', 5.00, 0.00, '2024-01-01', FALSE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+ON CONFLICT DO NOTHING;
+
+-- AVALIAÇÕES DE PRODUTOS
+INSERT INTO product_reviews (id, product_id, user_id, rating, comment, created_at)
+SELECT gen_random_uuid(), p.id, u.id, v.rating, v.comment, CURRENT_TIMESTAMP
+FROM (VALUES
+    ('Laptop Gamer XYZ', 'gabriel.user@example.com', 9, 'Excelente laptop, muito rápido para jogos e trabalho!'),
+    ('Smart TV 55 polegadas', 'maria.customer@example.com', 8, 'Imagem muito boa, som razoável. Ótimo custo-benefício.'),
+    ('Fone de Ouvido Bluetooth', 'joao.customer@example.com', 7, 'Confortável, mas a bateria poderia durar mais.')
+) AS v(product, email, rating, comment)
+JOIN products p ON p.name = v.product
+JOIN users u ON u.email = v.email
+WHERE NOT EXISTS (SELECT 1 FROM product_reviews r WHERE r.product_id = p.id AND r.user_id = u.id);
+
+-- CARRINHOS (Inicialmente vazios ou com itens)
+INSERT INTO carts (id, user_id, created_at, updated_at, total)
+SELECT gen_random_uuid(), u.id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, 0.00
+FROM users u
+WHERE u.email IN ('gabriel.user@example.com', 'maria.customer@example.com')
+  AND NOT EXISTS (SELECT 1 FROM carts c WHERE c.user_id = u.id);
+
+-- ITENS DO CARRINHO
+INSERT INTO cart_items (id, cart_id, product_id, quantity, total)
+SELECT gen_random_uuid(), c.id, p.id, v.quantity, v.total
+FROM (VALUES
+    ('Smart TV 55 polegadas', 1, 3200.00),
+    ('Fone de Ouvido Bluetooth', 2, 500.00)
+) AS v(product, quantity, total)
+JOIN products p ON p.name = v.product
+JOIN carts c ON c.user_id = (SELECT id FROM users WHERE email = 'gabriel.user@example.com')
+WHERE NOT EXISTS (SELECT 1 FROM cart_items i WHERE i.cart_id = c.id AND i.product_id = p.id);
+
+-- PEDIDOS, um por cliente e status
+INSERT INTO orders (id, user_id, status, total, delivery_address_id, payment_method_id, coupon_id, created_at, updated_at)
+SELECT gen_random_uuid(), u.id, v.status, v.total,
+       (SELECT id FROM addresses WHERE user_id = u.id LIMIT 1),
+       (SELECT id FROM payment_methods WHERE user_id = u.id LIMIT 1),
+       (SELECT id FROM coupons WHERE code = v.coupon),
+       v.created_at, v.updated_at
+FROM (VALUES
+    -- Pedido PENDENTE (Gabriel): 3200 (TV) + 500 (Fone x2)
+    ('gabriel.user@example.com', 'PENDING', 3700.00, NULL, LOCALTIMESTAMP, LOCALTIMESTAMP),
+    -- Pedido PAGO (Maria), com cupom
+    ('maria.customer@example.com', 'PAID', 7500.00, 'DESCONTO10', LOCALTIMESTAMP, LOCALTIMESTAMP),
+    -- Pedido ENTREGUE (João)
+    ('joao.customer@example.com', 'DELIVERED', 59.90, 'FRETEGRATIS', TIMESTAMP '2025-04-01 10:00:00', TIMESTAMP '2025-04-10 15:30:00')
+) AS v(email, status, total, coupon, created_at, updated_at)
+JOIN users u ON u.email = v.email
+WHERE NOT EXISTS (SELECT 1 FROM orders o WHERE o.user_id = u.id AND o.status = v.status);
+
+INSERT INTO order_items (id, order_id, product_id, quantity, price)
+SELECT gen_random_uuid(), o.id, p.id, v.quantity, v.price
+FROM (VALUES
+    ('gabriel.user@example.com', 'PENDING', 'Smart TV 55 polegadas', 1, 3200.00),
+    ('gabriel.user@example.com', 'PENDING', 'Fone de Ouvido Bluetooth', 2, 250.00),
+    ('maria.customer@example.com', 'PAID', 'Laptop Gamer XYZ', 1, 7500.00),
+    ('joao.customer@example.com', 'DELIVERED', 'Camiseta Algodão Orgânico', 1, 59.90)
+) AS v(email, status, product, quantity, price)
+JOIN products p ON p.name = v.product
+JOIN orders o ON o.id = (SELECT id FROM orders WHERE status = v.status
+                             AND user_id = (SELECT id FROM users WHERE email = v.email) LIMIT 1)
+WHERE NOT EXISTS (SELECT 1 FROM order_items i WHERE i.order_id = o.id AND i.product_id = p.id);
+
+-- Tracking Details para os pedidos PAGO da Maria e ENTREGUE do João
+INSERT INTO tracking_details (id, order_id, tracking_code, carrier, status, estimated_delivery, created_at, updated_at) VALUES
+    (gen_random_uuid(), (SELECT id FROM orders WHERE user_id = (SELECT id FROM users WHERE email = 'maria.customer@example.com') AND status = 'PAID' LIMIT 1), 'BR123456789PT', 'Correios', 'EM_TRANSITO', '2025-06-10', CURRENT_TIMESTAMP, CURRENT_TIMESTAMP),
+    (gen_random_uuid(), (SELECT id FROM orders WHERE user_id = (SELECT id FROM users WHERE email = 'joao.customer@example.com') AND status = 'DELIVERED' LIMIT 1), 'LOG987654321BR', 'Total Express', 'ENTREGUE', '2025-04-10', '2025-04-02 09:00:00', '2025-04-10 15:30:00')
+ON CONFLICT DO NOTHING;
+
+-- NOTIFICAÇÕES (pedidos e gerais)
+INSERT INTO notifications (id, user_id, type, content, read_at, created_at, updated_at)
+SELECT gen_random_uuid(), u.id, v.type, v.content, v.read_at, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM (VALUES
+    ('maria.customer@example.com', 'ORDER_STATUS_UPDATE', 'Seu pedido #order_maria_paid_id foi PAGO e está em preparação!', NULL),
+    ('joao.customer@example.com', 'ORDER_STATUS_UPDATE', 'Seu pedido #order_joao_delivered_id foi ENTREGUE!', LOCALTIMESTAMP),
+    ('gabriel.user@example.com', 'PROMOTION', 'Confira nossas novas ofertas de eletrônicos!', NULL),
+    ('gerente.admin@example.com', 'INFO', 'Relatório de vendas mensal disponível.', NULL)
+) AS v(email, type, content, read_at)
+JOIN users u ON u.email = v.email
+WHERE NOT EXISTS (SELECT 1 FROM notifications n WHERE n.user_id = u.id AND n.content = v.content);
+
+-- FILA DE E-MAILS (pedidos e gerais)
+INSERT INTO email_queue (id, recipient_email, subject, body, status, attempts, created_at, updated_at)
+SELECT gen_random_uuid(), v.recipient_email, v.subject, v.body, v.status, v.attempts, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+FROM (VALUES
+    ('maria.customer@example.com', 'Confirmação de Pagamento - Pedido #order_maria_paid_id', 'Olá Maria, seu pagamento foi confirmado! Acompanhe seu pedido com o código de rastreio BR123456789PT.', 'PENDING', 0),
+    ('joao.customer@example.com', 'Seu Pedido Chegou!', 'Olá João, seu pedido foi entregue com sucesso! Esperamos que goste.', 'SENT', 1),
+    ('gerente.admin@example.com', 'Alerta de Baixo Estoque', 'O produto "Laptop Gamer XYZ" está com estoque baixo (15 unidades).', 'PENDING', 0),
+    ('maria.customer@example.com', 'Promoção Exclusiva para Você!', 'Maria, temos uma oferta especial para você nos fones de ouvido!', 'PENDING', 0)
+) AS v(recipient_email, subject, body, status, attempts)
+WHERE NOT EXISTS (SELECT 1 FROM email_queue e WHERE e.recipient_email = v.recipient_email AND e.subject = v.subject);
+
+-- CLIENTE OAUTH2
+INSERT INTO client (id, client_id, client_secret, redirect_uri, scope)
+SELECT gen_random_uuid(), 'my-client-app', 'secret_for_demo_app', 'http://localhost:8080/authorized', 'read write'
+WHERE NOT EXISTS (SELECT 1 FROM client WHERE client_id = 'my-client-app');
+
+-- Os INSERTs acima não passam pelos serviços, então os contadores são recalculados a partir das linhas
+UPDATE products p SET
+    review_count = (SELECT COUNT(*) FROM product_reviews r WHERE r.product_id = p.id),
+    rating_sum = (SELECT COALESCE(SUM(r.rating), 0) FROM product_reviews r WHERE r.product_id = p.id);
+
+INSERT INTO product_rating_buckets (product_id, rating, review_count)
+SELECT product_id, rating, COUNT(*) FROM product_reviews GROUP BY product_id, rating
+ON CONFLICT (product_id, rating) DO UPDATE SET review_count = EXCLUDED.review_count;
+
+UPDATE users u SET unread_notification_count =
+    (SELECT COUNT(*) FROM notifications n WHERE n.user_id = u.id AND n.read_at IS NULL);
@@ -0,0 +1,71 @@
+package io.github.gabrielpetry23.ecommerceapi;
+
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.CategoryRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Persists the users, categories and products integration tests build on. Names and emails
+// are unique per call because test classes share one embedded database.
+@Component
+@RequiredArgsConstructor
+public class TestFixtures {
+
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+
+    public User createUser() {
+        User user = new User();
+        user.setName("Test User");
+        user.setEmail("user-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("secret");
+        return userRepository.save(user);
+    }
+
+    public Category createCategory() {
+        Category category = new Category();
+        category.setName("Category " + UUID.randomUUID());
+        return categoryRepository.save(category);
+    }
+
+    public Product createProduct() {
+        return createProduct(product -> { });
+    }
+
+    public Product createProduct(Category category) {
+        return createProduct(product -> product.setCategory(category));
+    }
+
+    public Product createProduct(Consumer<Product> customizer) {
+        Product product = newProduct();
+        customizer.accept(product);
+        return productRepository.save(product);
+    }
+
+    public List<Product> createProducts(int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            products.add(newProduct());
+        }
+        return productRepository.saveAll(products);
+    }
+
+    private Product newProduct() {
+        Product product = new Product();
+        product.setName("Product " + UUID.randomUUID());
+        product.setPrice(new BigDecimal("10.00"));
+        product.setStock(100);
+        return product;
+    }
+}
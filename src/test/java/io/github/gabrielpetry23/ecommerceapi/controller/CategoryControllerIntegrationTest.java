@@ -3,6 +3,7 @@ package io.github.gabrielpetry23.ecommerceapi.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.github.gabrielpetry23.ecommerceapi.controller.dto.CategoryDTO;
 import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import io.github.gabrielpetry23.ecommerceapi.service.CategoryService;
 import io.github.gabrielpetry23.ecommerceapi.service.EmailService;
@@ -17,12 +18,15 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.core.authority.AuthorityUtils.createAuthorityList;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -77,17 +81,37 @@ public class CategoryControllerIntegrationTest {
 
     @Test
     void listAllCategories_ReturnsOk() throws Exception {
-        Category mockCategory = createMockCategory(TEST_CATEGORY_ID, "Electronics");
+        CategoryDTO mockCategory = new CategoryDTO(TEST_CATEGORY_ID, "Electronics");
 
-        when(categoryService.findAll()).thenReturn(Collections.singletonList(mockCategory));
+        when(categoryService.findCatalogVersion()).thenReturn(new CatalogVersion(1, LocalDateTime.now()));
+        when(categoryService.findAllDTO()).thenReturn(Collections.singletonList(mockCategory));
 
         mockMvc.perform(MockMvcRequestBuilders.get(CATEGORIES_ENDPOINT)
                         .with(jwtForUser("testUser", "USER")))
                 .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().exists("Last-Modified"))
                 .andExpect(jsonPath("$[0].id").value(TEST_CATEGORY_ID.toString()))
                 .andExpect(jsonPath("$[0].name").value("Electronics"));
     }
 
+    @Test
+    void listAllCategories_MatchingETag_ReturnsNotModified() throws Exception {
+        when(categoryService.findCatalogVersion()).thenReturn(new CatalogVersion(1, LocalDateTime.now()));
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get(CATEGORIES_ENDPOINT)
+                        .with(jwtForUser("testUser", "USER")))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(CATEGORIES_ENDPOINT)
+                        .header("If-None-Match", etag)
+                        .with(jwtForUser("testUser", "USER")))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(categoryService, times(1)).findAllDTO();
+    }
+
     @Test
     void getCategoryById_ValidId_ReturnsOk() throws Exception {
         Category mockCategory = createMockCategory(TEST_CATEGORY_ID, "Electronics");
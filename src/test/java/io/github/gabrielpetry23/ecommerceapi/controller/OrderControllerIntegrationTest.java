@@ -8,6 +8,7 @@ import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
 import io.github.gabrielpetry23.ecommerceapi.model.User;
 import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
 import io.github.gabrielpetry23.ecommerceapi.service.EmailService;
+import io.github.gabrielpetry23.ecommerceapi.service.IdempotencyService;
 import io.github.gabrielpetry23.ecommerceapi.service.OrderService;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -97,6 +98,56 @@ public class OrderControllerIntegrationTest {
                 .andExpect(MockMvcResultMatchers.header().string("Location", ORDERS_ENDPOINT + "/" + createdOrder.getId()));
     }
 
+    @Test
+    void createOrder_RetriedWithIdempotencyKey_ReturnsFirstOrderWithoutCreatingAnother() throws Exception {
+        OrderRequestDTO requestDTO = new OrderRequestDTO(UUID.randomUUID().toString(), UUID.randomUUID().toString(), null);
+        Order createdOrder = new Order();
+        createdOrder.setId(UUID.randomUUID());
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        when(securityService.getCurrentUserId()).thenReturn(TEST_USER_ID);
+        when(orderService.createOrder(any(OrderRequestDTO.class))).thenReturn(createdOrder);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(MockMvcRequestBuilders.post(ORDERS_ENDPOINT)
+                            .header(IdempotencyService.HEADER, idempotencyKey)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(requestDTO))
+                            .with(csrf())
+                            .with(jwtForUser(TEST_USER_ID, "testUser", "USER")))
+                    .andExpect(status().isCreated())
+                    .andExpect(MockMvcResultMatchers.header().string("Location", ORDERS_ENDPOINT + "/" + createdOrder.getId()));
+        }
+
+        Mockito.verify(orderService, Mockito.times(1)).createOrder(any(OrderRequestDTO.class));
+    }
+
+    @Test
+    void createOrder_IdempotencyKeyReusedWithDifferentBody_ReturnsUnprocessableEntity() throws Exception {
+        Order createdOrder = new Order();
+        createdOrder.setId(UUID.randomUUID());
+        String idempotencyKey = UUID.randomUUID().toString();
+
+        when(securityService.getCurrentUserId()).thenReturn(TEST_USER_ID);
+        when(orderService.createOrder(any(OrderRequestDTO.class))).thenReturn(createdOrder);
+
+        mockMvc.perform(MockMvcRequestBuilders.post(ORDERS_ENDPOINT)
+                        .header(IdempotencyService.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderRequestDTO(UUID.randomUUID().toString(), UUID.randomUUID().toString(), null)))
+                        .with(csrf())
+                        .with(jwtForUser(TEST_USER_ID, "testUser", "USER")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(MockMvcRequestBuilders.post(ORDERS_ENDPOINT)
+                        .header(IdempotencyService.HEADER, idempotencyKey)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new OrderRequestDTO(UUID.randomUUID().toString(), UUID.randomUUID().toString(), null)))
+                        .with(csrf())
+                        .with(jwtForUser(TEST_USER_ID, "testUser", "USER")))
+                .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void listAllOrders_AsAdmin_ReturnsOkWithPage() throws Exception {
         UUID userId1 = UUID.randomUUID();
@@ -17,10 +17,13 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.request.RequestPostProcessor;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.core.authority.AuthorityUtils.createAuthorityList;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -66,11 +69,9 @@ public class ProductControllerIntegrationTest {
 
     @Test
     void getProductById_ValidId_ReturnsOk() throws Exception {
-        Product product = new Product();
-        product.setId(TEST_PRODUCT_ID);
-        product.setName("Test Product");
+        ProductResponseDTO product = new ProductResponseDTO("Test Product", null, null, null, List.of(), null, null);
 
-        when(productService.findById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
+        when(productService.findDTOById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
 
         mockMvc.perform(MockMvcRequestBuilders.get(PRODUCTS_ENDPOINT + "/" + TEST_PRODUCT_ID)
                         .with(jwtForUser(UUID.randomUUID(), "user", "USER")))
@@ -78,6 +79,27 @@ public class ProductControllerIntegrationTest {
                 .andExpect(jsonPath("$.name").value("Test Product"));
     }
 
+    @Test
+    void getProductById_MatchingETag_ReturnsNotModified() throws Exception {
+        ProductResponseDTO product = new ProductResponseDTO("Test Product", null, null, null, List.of(), null, null);
+
+        when(productService.findDTOById(TEST_PRODUCT_ID)).thenReturn(Optional.of(product));
+
+        String etag = mockMvc.perform(MockMvcRequestBuilders.get(PRODUCTS_ENDPOINT + "/" + TEST_PRODUCT_ID)
+                        .with(jwtForUser(UUID.randomUUID(), "user", "USER")))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Cache-Control", "no-cache, public"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(MockMvcRequestBuilders.get(PRODUCTS_ENDPOINT + "/" + TEST_PRODUCT_ID)
+                        .header("If-None-Match", etag)
+                        .with(jwtForUser(UUID.randomUUID(), "user", "USER")))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(productService, times(2)).findDTOById(TEST_PRODUCT_ID);
+    }
+
     @Test
     void updateProduct_ValidInput_ReturnsNoContent() throws Exception {
         ProductUpdateDTO updateDTO = new ProductUpdateDTO("Updated Product", "Updated Description", BigDecimal.valueOf(20), 15, UUID.randomUUID());
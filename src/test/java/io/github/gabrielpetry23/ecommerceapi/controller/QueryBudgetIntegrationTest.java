@@ -0,0 +1,225 @@
+package io.github.gabrielpetry23.ecommerceapi.controller;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.configuration.StatementStatistics;
+import io.github.gabrielpetry23.ecommerceapi.controller.common.QueryBudget;
+import io.github.gabrielpetry23.ecommerceapi.controller.common.QueryBudgetFilter;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.QueryBudgetExceededException;
+import io.github.gabrielpetry23.ecommerceapi.model.Address;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.AddressRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.OrderRepository;
+import io.github.gabrielpetry23.ecommerceapi.service.EmailService;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.core.authority.AuthorityUtils.createAuthorityList;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The test profile turns on app.query-budget.enforce, so every request in the suite to an
+// endpoint annotated with @QueryBudget fails if it runs more statements than declared.
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class QueryBudgetIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private StatementStatistics statementStatistics;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void getOrders_MoreOrdersAndItems_RunsSameNumberOfStatements() throws Exception {
+        User user = fixtures.createUser();
+        List<Product> products = List.of(fixtures.createProduct(), fixtures.createProduct(), fixtures.createProduct());
+        createOrder(user, products.subList(0, 1));
+        queryCount("/users/" + user.getId() + "/orders", user);
+        long oneOrder = queryCount("/users/" + user.getId() + "/orders", user);
+
+        for (int i = 0; i < 5; i++) {
+            createOrder(user, products);
+        }
+        long sixOrders = queryCount("/users/" + user.getId() + "/orders", user);
+
+        assertEquals(oneOrder, sixOrders);
+    }
+
+    @Test
+    public void getAddresses_MoreAddresses_RunsSameNumberOfStatements() throws Exception {
+        User user = fixtures.createUser();
+        createAddress(user);
+        queryCount("/users/" + user.getId() + "/addresses", user);
+        long oneAddress = queryCount("/users/" + user.getId() + "/addresses", user);
+
+        for (int i = 0; i < 5; i++) {
+            createAddress(user);
+        }
+        long sixAddresses = queryCount("/users/" + user.getId() + "/addresses", user);
+
+        assertEquals(oneAddress, sixAddresses);
+    }
+
+    @Test
+    public void findProductsByCategory_WithinBudget_ReturnsQueryCountHeader() throws Exception {
+        Category category = fixtures.createCategory();
+        for (int i = 0; i < 5; i++) {
+            fixtures.createProduct(category);
+        }
+
+        String count = mockMvc.perform(get("/categories/" + category.getId() + "/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(QueryBudgetFilter.HEADER);
+
+        assertTrue(Long.parseLong(count) > 0);
+    }
+
+    @Test
+    public void doFilter_OverBudgetWithEnforcement_Throws() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(statementStatistics, true, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/budgeted");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("handle")));
+
+        assertThrows(QueryBudgetExceededException.class, () -> filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> {
+                    statementStatistics.record("select 1", 1_000, 1, List.of(), false);
+                    statementStatistics.record("select 2", 1_000, 1, List.of(), false);
+                }));
+    }
+
+    @Test
+    public void doFilter_OverBudgetWithoutEnforcement_StillSetsHeader() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(statementStatistics, true, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/budgeted");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE,
+                new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("handle")));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            statementStatistics.record("select 1", 1_000, 1, List.of(), false);
+            statementStatistics.record("select 2", 1_000, 1, List.of(), false);
+        });
+
+        assertEquals("2", response.getHeader(QueryBudgetFilter.HEADER));
+    }
+
+    @Test
+    public void doFilter_AsyncRequest_FlushesBodyOnLastDispatchWithoutHeader() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(statementStatistics, true, true);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/streamed");
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<ServletResponse> wrapped = new AtomicReference<>();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.startAsync(req, res);
+            wrapped.set(res);
+        });
+        request.setDispatcherType(DispatcherType.ASYNC);
+        request.setAsyncStarted(false);
+        filter.doFilter(request, wrapped.get(), (req, res) -> res.getWriter().write("done"));
+
+        assertEquals("done", response.getContentAsString());
+        assertNull(response.getHeader(QueryBudgetFilter.HEADER));
+    }
+
+    @Test
+    public void doFilter_WebSocketEndpoint_IsNotBuffered() throws Exception {
+        QueryBudgetFilter filter = new QueryBudgetFilter(statementStatistics, true, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/ws/info"), response, (req, res) -> assertSame(response, res));
+
+        assertNull(response.getHeader(QueryBudgetFilter.HEADER));
+    }
+
+    // The first request for a user also loads it into the principal cache, so callers
+    // measure from the second request on.
+    private long queryCount(String path, User user) throws Exception {
+        String count = mockMvc.perform(get(path).with(jwtFor(user)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(QueryBudgetFilter.HEADER);
+        return Long.parseLong(count);
+    }
+
+    private void createAddress(User user) {
+        Address address = new Address();
+        address.setUser(user);
+        address.setStreet("Main Street");
+        address.setNumber("100");
+        address.setCity("Porto Alegre");
+        address.setState("RS");
+        address.setZipCode("90000-000");
+        address.setCountry("Brazil");
+        addressRepository.save(address);
+    }
+
+    private void createOrder(User user, List<Product> products) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotal(new BigDecimal("10.00").multiply(BigDecimal.valueOf(products.size())));
+        for (Product product : products) {
+            OrderItem item = new OrderItem();
+            item.setOrder(order);
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setPrice(product.getPrice());
+            order.getItems().add(item);
+        }
+        orderRepository.save(order);
+    }
+
+    private static RequestPostProcessor jwtFor(User user) {
+        return jwt().jwt(jwt -> jwt.subject(user.getEmail()))
+                .authorities(createAuthorityList(user.getRole()));
+    }
+
+    static class BudgetedHandler {
+
+        @QueryBudget(1)
+        public void handle() {
+        }
+    }
+}
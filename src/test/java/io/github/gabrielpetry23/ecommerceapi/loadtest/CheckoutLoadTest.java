@@ -0,0 +1,430 @@
+package io.github.gabrielpetry23.ecommerceapi.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CartItemRequestDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderRequestDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderStatusDTO;
+import io.github.gabrielpetry23.ecommerceapi.loadtest.LatencyRecorder.EndpointReport;
+import io.github.gabrielpetry23.ecommerceapi.loadtest.LatencyRecorder.LoadReport;
+import io.github.gabrielpetry23.ecommerceapi.model.Address;
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.PaymentMethod;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.CategoryRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Drives a mixed browse / add-to-cart / checkout / status-update workload over real HTTP
+// against the test profile's embedded database, with an SMTP stand-in receiving the
+// emails the dispatcher sends. Only runs in the loadtest profile:
+//   mvn -Ploadtest test -Dloadtest.duration=60s -Dloadtest.concurrency=32
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.org.hibernate.SQL=warn",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=warn",
+        "logging.level.io.github.gabrielpetry23.ecommerceapi=warn",
+        "logging.level.io.github.gabrielpetry23.ecommerceapi.loadtest=info",
+        "spring.mail.host=localhost",
+        "spring.mail.username=",
+        "spring.mail.password=",
+        "spring.mail.properties.mail.smtp.auth=false",
+        "spring.mail.properties.mail.smtp.starttls.enable=false",
+        "app.email.from=Ecommerce Load Test <loadtest@example.com>",
+        "app.email.dispatcher.initial-delay=1000",
+        "app.email.dispatcher.poll-interval=1000"
+})
+@ActiveProfiles("test")
+@EnabledIfSystemProperty(named = "loadtest.enabled", matches = "true")
+public class CheckoutLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CheckoutLoadTest.class);
+
+    private static final String[] PRODUCT_NAMES = {"Notebook", "Mouse", "Keyboard", "Monitor", "Headset", "Webcam", "Chair", "Desk"};
+    private static final int CATEGORIES = 20;
+
+    private static final SmtpStandIn smtp = SmtpStandIn.start();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private JwtEncoder jwtEncoder;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${loadtest.users:200}")
+    private int userCount;
+
+    @Value("${loadtest.products:2000}")
+    private int productCount;
+
+    @Value("${loadtest.concurrency:32}")
+    private int concurrency;
+
+    @Value("${loadtest.warmup:10s}")
+    private Duration warmup;
+
+    @Value("${loadtest.duration:30s}")
+    private Duration duration;
+
+    @Value("${loadtest.seed:42}")
+    private long seed;
+
+    @Value("${loadtest.report:target/loadtest-report.json}")
+    private String reportPath;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Queue<PendingStatus> pendingStatuses = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger loggedFailures = new AtomicInteger();
+
+    private List<Product> products;
+    private String adminToken;
+    private long measureStart;
+    private long measureEnd;
+
+    @DynamicPropertySource
+    static void smtpProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.mail.port", smtp::port);
+    }
+
+    @AfterAll
+    static void stopSmtp() throws IOException {
+        smtp.close();
+    }
+
+    @Test
+    public void mixedWorkload_ReportsLatencyAndThroughputPerEndpoint() throws Exception {
+        List<Shopper> shoppers = seed();
+
+        long now = System.nanoTime();
+        measureStart = now + warmup.toNanos();
+        measureEnd = measureStart + duration.toNanos();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                List<Shopper> owned = new ArrayList<>();
+                for (int j = i; j < shoppers.size(); j += concurrency) {
+                    owned.add(shoppers.get(j));
+                }
+                SplittableRandom random = new SplittableRandom(seed + i);
+                executor.submit(() -> runVirtualUser(owned, random));
+            }
+        }
+
+        LoadReport report = recorder.report(duration, concurrency, userCount, productCount);
+        log.info("Load test results ({} virtual users, {} measured):\n{}", concurrency, duration, report.toTable());
+        File reportFile = new File(reportPath);
+        reportFile.getParentFile().mkdirs();
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(reportFile, report);
+
+        for (String endpoint : List.of("GET /products", "POST /carts/{id}/items", "POST /orders", "PUT /orders/{id}/status")) {
+            EndpointReport stats = report.endpoints().stream()
+                    .filter(e -> e.endpoint().equals(endpoint))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("No requests recorded for " + endpoint));
+            assertTrue(stats.requests() > stats.errors(), "Every request failed for " + endpoint);
+        }
+
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (smtp.delivered() == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(200);
+        }
+        assertTrue(smtp.delivered() > 0, "No emails reached the SMTP stand-in");
+    }
+
+    private void runVirtualUser(List<Shopper> shoppers, SplittableRandom random) {
+        if (shoppers.isEmpty()) {
+            return;
+        }
+        int next = 0;
+        while (System.nanoTime() < measureEnd) {
+            Shopper shopper = shoppers.get(next++ % shoppers.size());
+            double roll = random.nextDouble();
+            if (roll < 0.55) {
+                browse(random);
+            } else if (roll < 0.80 || shopper.cartItems == 0) {
+                addToCart(shopper, random);
+            } else if (roll < 0.92) {
+                checkout(shopper);
+            } else {
+                updateStatus(random);
+            }
+        }
+    }
+
+    private void browse(SplittableRandom random) {
+        switch (random.nextInt(4)) {
+            case 0 -> send("GET /products", get("/products?page=" + random.nextInt(10) + "&size=20", null));
+            case 1 -> send("GET /products/{id}", get("/products/" + randomProduct(random).getId(), null));
+            case 2 -> {
+                String name = URLEncoder.encode(PRODUCT_NAMES[random.nextInt(PRODUCT_NAMES.length)], StandardCharsets.UTF_8);
+                send("GET /products/search", get("/products/search?name=" + name + "&pageSize=20", null));
+            }
+            default -> send("GET /categories", get("/categories", null));
+        }
+    }
+
+    private void addToCart(Shopper shopper, SplittableRandom random) {
+        CartItemRequestDTO dto = new CartItemRequestDTO(randomProduct(random).getId().toString(), 1 + random.nextInt(3));
+        HttpResponse<String> response = send("POST /carts/{id}/items",
+                post("/carts/" + shopper.cartId + "/items", shopper.token, dto));
+        if (isSuccess(response)) {
+            shopper.cartItems++;
+        }
+    }
+
+    private void checkout(Shopper shopper) {
+        OrderRequestDTO dto = new OrderRequestDTO(shopper.addressId.toString(), shopper.paymentMethodId.toString(), null);
+        HttpResponse<String> response = send("POST /orders", post("/orders", shopper.token, dto));
+        if (isSuccess(response)) {
+            shopper.cartItems = 0;
+            response.headers().firstValue("Location").ifPresent(location -> pendingStatuses.add(
+                    new PendingStatus(UUID.fromString(location.substring(location.lastIndexOf('/') + 1)), OrderStatus.PAID)));
+        }
+    }
+
+    private void updateStatus(SplittableRandom random) {
+        PendingStatus pending = pendingStatuses.poll();
+        if (pending == null) {
+            browse(random);
+            return;
+        }
+        HttpResponse<String> response = send("PUT /orders/{id}/status",
+                put("/orders/" + pending.orderId() + "/status", adminToken, new OrderStatusDTO(pending.status().name())));
+        if (isSuccess(response) && pending.status() != OrderStatus.DELIVERED) {
+            OrderStatus next = switch (pending.status()) {
+                case PAID -> OrderStatus.IN_PREPARATION;
+                case IN_PREPARATION -> OrderStatus.IN_DELIVERY;
+                default -> OrderStatus.DELIVERED;
+            };
+            pendingStatuses.add(new PendingStatus(pending.orderId(), next));
+        }
+    }
+
+    private HttpResponse<String> send(String endpoint, HttpRequest request) {
+        long started = System.nanoTime();
+        HttpResponse<String> response = null;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            log.warn("{} failed: {}", endpoint, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        long finished = System.nanoTime();
+
+        boolean success = isSuccess(response);
+        if (started >= measureStart && finished <= measureEnd) {
+            recorder.record(endpoint, finished - started, success);
+        }
+        if (!success && response != null && loggedFailures.incrementAndGet() <= 10) {
+            log.warn("{} returned {}: {}", endpoint, response.statusCode(), response.body());
+        }
+        return response;
+    }
+
+    private static boolean isSuccess(HttpResponse<String> response) {
+        return response != null && response.statusCode() < 400;
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest post(String path, String token, Object body) {
+        return request(path, token).POST(json(body)).build();
+    }
+
+    private HttpRequest put(String path, String token, Object body) {
+        return request(path, token).PUT(json(body)).build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        return builder;
+    }
+
+    private HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Product randomProduct(SplittableRandom random) {
+        return products.get(random.nextInt(products.size()));
+    }
+
+    private List<Shopper> seed() {
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<Category> categories = new ArrayList<>();
+        for (int i = 0; i < CATEGORIES; i++) {
+            Category category = new Category();
+            category.setName("Load Category " + i);
+            categories.add(category);
+        }
+        categories = categoryRepository.saveAll(categories);
+
+        List<Product> seededProducts = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            String name = PRODUCT_NAMES[i % PRODUCT_NAMES.length];
+            Product product = new Product();
+            product.setName(name + " " + i);
+            product.setDescription("Load test " + name.toLowerCase() + " number " + i);
+            product.setPrice(BigDecimal.valueOf(random.nextInt(500, 500_000), 2));
+            product.setStock(1_000_000);
+            product.setCategory(categories.get(i % CATEGORIES));
+
+            ProductImage image = new ProductImage();
+            image.setImageUrl("https://cdn.example.com/load/" + i + ".png");
+            image.setMain(true);
+            image.setProduct(product);
+            product.getImages().add(image);
+
+            seededProducts.add(product);
+        }
+        products = productRepository.saveAll(seededProducts);
+
+        User admin = new User();
+        admin.setName("Load Admin");
+        admin.setEmail("load-admin-" + UUID.randomUUID() + "@example.com");
+        admin.setRole("ADMIN");
+        admin = userRepository.save(admin);
+        adminToken = token(admin);
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setName("Load Shopper " + i);
+            user.setEmail("load-shopper-" + i + "-" + UUID.randomUUID() + "@example.com");
+            user.setRole("USER");
+
+            Cart cart = new Cart();
+            cart.setUser(user);
+            user.setCart(cart);
+
+            Address address = new Address();
+            address.setUser(user);
+            address.setStreet("Rua do Teste");
+            address.setNumber(String.valueOf(i));
+            address.setCity("Porto Alegre");
+            address.setState("RS");
+            address.setZipCode("90000-000");
+            address.setCountry("Brasil");
+            user.getAddresses().add(address);
+
+            PaymentMethod paymentMethod = new PaymentMethod();
+            paymentMethod.setUser(user);
+            paymentMethod.setType("CREDIT_CARD");
+            paymentMethod.setProvider("VISA");
+            paymentMethod.setPaymentToken("load-" + UUID.randomUUID());
+            paymentMethod.setLast4Digits(String.format("%04d", i % 10_000));
+            user.getPaymentMethods().add(paymentMethod);
+
+            users.add(user);
+        }
+
+        List<Shopper> shoppers = new ArrayList<>();
+        for (User user : userRepository.saveAll(users)) {
+            shoppers.add(new Shopper(token(user), user.getCart().getId(),
+                    user.getAddresses().getFirst().getId(), user.getPaymentMethods().getFirst().getId()));
+        }
+        return shoppers;
+    }
+
+    private String token(User user) {
+        Instant issuedAt = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .subject(user.getEmail())
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plus(Duration.ofHours(2)))
+                .claim("authorities", List.of(user.getRole()))
+                .claim("email", user.getEmail())
+                .claim("userId", user.getId().toString())
+                .build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(claims)).getTokenValue();
+    }
+
+    // Each shopper is driven by a single virtual user, so its cart counter needs no locking.
+    private static final class Shopper {
+
+        private final String token;
+        private final UUID cartId;
+        private final UUID addressId;
+        private final UUID paymentMethodId;
+        private int cartItems;
+
+        private Shopper(String token, UUID cartId, UUID addressId, UUID paymentMethodId) {
+            this.token = token;
+            this.cartId = cartId;
+            this.addressId = addressId;
+            this.paymentMethodId = paymentMethodId;
+        }
+    }
+
+    private record PendingStatus(UUID orderId, OrderStatus status) {
+    }
+}
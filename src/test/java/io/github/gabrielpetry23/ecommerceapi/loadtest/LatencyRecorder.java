@@ -0,0 +1,84 @@
+package io.github.gabrielpetry23.ecommerceapi.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Collects per-endpoint latencies, keyed by the route template from routes.txt, and
+// turns them into the p50/p99/throughput report.
+final class LatencyRecorder {
+
+    private final Map<String, Samples> samples = new ConcurrentHashMap<>();
+
+    void record(String endpoint, long nanos, boolean success) {
+        samples.computeIfAbsent(endpoint, key -> new Samples()).add(nanos, success);
+    }
+
+    LoadReport report(Duration measured, int concurrency, int users, int products) {
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        List<EndpointReport> endpoints = samples.entrySet().stream()
+                .map(entry -> entry.getValue().report(entry.getKey(), seconds))
+                .sorted(Comparator.comparing(EndpointReport::endpoint))
+                .toList();
+        return new LoadReport(seconds, concurrency, users, products, endpoints);
+    }
+
+    record LoadReport(double durationSeconds, int concurrency, int users, int products, List<EndpointReport> endpoints) {
+
+        String toTable() {
+            StringBuilder table = new StringBuilder(String.format("%-34s %9s %7s %10s %9s %9s %9s%n",
+                    "endpoint", "requests", "errors", "req/s", "p50 ms", "p99 ms", "max ms"));
+            for (EndpointReport endpoint : endpoints) {
+                table.append(String.format("%-34s %9d %7d %10.1f %9.2f %9.2f %9.2f%n",
+                        endpoint.endpoint(), endpoint.requests(), endpoint.errors(), endpoint.throughput(),
+                        endpoint.p50Millis(), endpoint.p99Millis(), endpoint.maxMillis()));
+            }
+            return table.toString();
+        }
+    }
+
+    record EndpointReport(String endpoint, long requests, long errors, double throughput,
+                          double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+    private static final class Samples {
+
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void add(long nanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized EndpointReport report(String endpoint, double seconds) {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return new EndpointReport(endpoint, size, errors, size / seconds,
+                    millis(percentile(sorted, 50)), millis(percentile(sorted, 99)),
+                    millis(size == 0 ? 0 : sorted[size - 1]));
+        }
+
+        // Nearest-rank percentile.
+        private static long percentile(long[] sorted, int percentile) {
+            if (sorted.length == 0) {
+                return 0;
+            }
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            return sorted[Math.max(rank, 1) - 1];
+        }
+
+        private static double millis(long nanos) {
+            return nanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package io.github.gabrielpetry23.ecommerceapi.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Minimal SMTP server that accepts every message and only counts deliveries, so the
+// email dispatcher runs its real send path without reaching an external relay.
+final class SmtpStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final AtomicInteger delivered = new AtomicInteger();
+
+    private SmtpStandIn(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    static SmtpStandIn start() {
+        try {
+            SmtpStandIn smtp = new SmtpStandIn(new ServerSocket(0));
+            Thread acceptor = new Thread(smtp::acceptLoop, "smtp-stand-in");
+            acceptor.setDaemon(true);
+            acceptor.start();
+            return smtp;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    int port() {
+        return serverSocket.getLocalPort();
+    }
+
+    int delivered() {
+        return delivered.get();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                Thread.ofVirtual().name("smtp-stand-in-connection").start(() -> handle(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             OutputStream out = socket.getOutputStream()) {
+            reply(out, "220 localhost SMTP stand-in");
+
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line.toUpperCase() : line.substring(0, 4).toUpperCase();
+                switch (command) {
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // message body is discarded
+                        }
+                        delivered.incrementAndGet();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "250 OK");
+                }
+            }
+        } catch (IOException ignored) {
+            // connection closed by the client
+        }
+    }
+
+    private static void reply(OutputStream out, String line) throws IOException {
+        out.write((line + "\r\n").getBytes(StandardCharsets.US_ASCII));
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.CartItem;
+import io.github.gabrielpetry23.ecommerceapi.model.Notification;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.CartItemRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.CartRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+@SpringBootTest(properties = "app.cart-reminder.chunk-size=2")
+@ActiveProfiles("test")
+public class CartReminderServiceIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CartReminderService cartReminderService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Cart createCart(Product product, int itemCount, LocalDateTime updatedAt) {
+        User user = fixtures.createUser();
+
+        Cart cart = new Cart();
+        cart.setUser(user);
+        cartRepository.save(cart);
+
+        for (int i = 0; i < itemCount; i++) {
+            CartItem item = new CartItem();
+            item.setCart(cart);
+            item.setProduct(product);
+            item.setQuantity(1);
+            item.setTotal(product.getPrice());
+            cartItemRepository.save(item);
+        }
+
+        jdbcTemplate.update("UPDATE carts SET updated_at = ? WHERE id = ?", updatedAt, cart.getId());
+        return cart;
+    }
+
+    private List<Notification> remindersFor(Cart cart) {
+        return notificationRepository.findAll().stream()
+                .filter(notification -> "CART_REMINDER".equals(notification.getType()))
+                .filter(notification -> notification.getUser().getId().equals(cart.getUser().getId()))
+                .toList();
+    }
+
+    @Test
+    public void sendCartReminders_AbandonedCartsAcrossChunks_RemindsEachOnce() {
+        Product product = fixtures.createProduct();
+
+        LocalDateTime abandoned = LocalDateTime.now().minusDays(2);
+        List<Cart> eligible = List.of(
+                createCart(product, 1, abandoned),
+                createCart(product, 2, abandoned),
+                createCart(product, 3, abandoned));
+        Cart fresh = createCart(product, 1, LocalDateTime.now());
+        Cart empty = createCart(product, 0, abandoned);
+
+        cartReminderService.sendCartReminders();
+        cartReminderService.sendCartReminders();
+
+        for (Cart cart : eligible) {
+            List<Notification> reminders = remindersFor(cart);
+            assertEquals(1, reminders.size());
+            assertEquals(String.format("You left %d item(s) in your cart. Don't lose your choices!",
+                    cartItemRepository.findAll().stream().filter(item -> item.getCart().getId().equals(cart.getId())).count()),
+                    reminders.getFirst().getContent());
+            assertNotNull(cartRepository.findById(cart.getId()).orElseThrow().getLastReminderSentAt());
+        }
+        assertEquals(0, remindersFor(fresh).size());
+        assertEquals(0, remindersFor(empty).size());
+        assertNull(cartRepository.findById(empty.getId()).orElseThrow().getLastReminderSentAt());
+    }
+}
@@ -0,0 +1,122 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CategoryDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductImageDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductUpdateDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.projections.CatalogVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class CatalogCacheIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void findDTOById_SecondRead_ServedFromCache() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        productService.findDTOById(product.getId()).orElseThrow();
+        statistics.clear();
+        ProductResponseDTO cached = productService.findDTOById(product.getId()).orElseThrow();
+
+        assertEquals(product.getName(), cached.name());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertNotNull(meterRegistry.find("cache.hit.ratio").tag("cache", "catalog.products").gauge());
+    }
+
+    @Test
+    public void updateProduct_CachedProduct_EvictsProductAndCategoryListing() {
+        Category category = fixtures.createCategory();
+        Product product = fixtures.createProduct(category);
+
+        productService.findDTOById(product.getId()).orElseThrow();
+        categoryService.findAllProductsDTOByCategoryId(category.getId());
+
+        productService.updateProduct(product.getId(),
+                new ProductUpdateDTO("Renamed Product", "", null, 3, category.getId()));
+
+        ProductResponseDTO updated = productService.findDTOById(product.getId()).orElseThrow();
+        List<ProductResponseDTO> listing = categoryService.findAllProductsDTOByCategoryId(category.getId());
+
+        assertEquals("Renamed Product", updated.name());
+        assertEquals(3, updated.stock());
+        assertEquals("Renamed Product", listing.getFirst().name());
+    }
+
+    @Test
+    public void addImage_CachedProduct_EvictsProduct() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+        assertTrue(productService.findDTOById(product.getId()).orElseThrow().images().isEmpty());
+
+        productService.addImage(product.getId(), new ProductImageDTO("https://example.com/cached.png", true));
+
+        assertEquals(1, productService.findDTOById(product.getId()).orElseThrow().images().size());
+    }
+
+    @Test
+    public void saveCategory_CachedCategories_EvictsCategoryList() {
+        int before = categoryService.findAllDTO().size();
+
+        Category category = new Category();
+        category.setName("Cached " + UUID.randomUUID());
+        categoryService.save(category);
+
+        List<CategoryDTO> after = categoryService.findAllDTO();
+        assertEquals(before + 1, after.size());
+        assertTrue(after.stream().anyMatch(dto -> dto.name().equals(category.getName())));
+    }
+
+    @Test
+    public void findCatalogVersion_SecondRead_ServedFromCacheUntilProductWrite() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        CatalogVersion first = productService.findCatalogVersion();
+        statistics.clear();
+        assertEquals(first, productService.findCatalogVersion());
+        assertEquals(0, statistics.getPrepareStatementCount());
+
+        productService.updateProduct(product.getId(),
+                new ProductUpdateDTO("Versioned Product", "", null, 2, product.getCategory().getId()));
+
+        assertNotEquals(first, productService.findCatalogVersion());
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CouponNotificationProgressDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.repository.CouponRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.NotificationRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = "app.coupon.fan-out.chunk-size=2")
+@ActiveProfiles("test")
+public class CouponNotificationServiceIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private CouponNotificationService couponNotificationService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void notifyUsers_MoreUsersThanChunkSize_NotifiesEveryUserInChunks() {
+        for (int i = 0; i < 5; i++) {
+            fixtures.createUser();
+        }
+
+        Coupon coupon = new Coupon();
+        coupon.setCode("FANOUT-" + UUID.randomUUID().toString().substring(0, 8));
+        coupon.setDiscountAmount(BigDecimal.ZERO);
+        coupon.setDiscountPercentage(new BigDecimal("10.00"));
+        coupon.setValidUntil(LocalDate.now().plusDays(7));
+        coupon.setIsActive(false);
+        couponRepository.save(coupon);
+
+        long users = userRepository.findAll().stream().filter(user -> "USER".equals(user.getRole())).count();
+        long notificationsBefore = notificationRepository.count();
+
+        couponNotificationService.notifyUsers(coupon.getId());
+
+        assertEquals(notificationsBefore + users, notificationRepository.count());
+        verify(emailService, atLeast(3)).sendNewCouponEmail(any(), anyList());
+
+        CouponNotificationProgressDTO progress = couponNotificationService.findProgress(coupon.getId()).orElseThrow();
+        assertEquals("COMPLETED", progress.status());
+        assertEquals(users, progress.notifiedUsers());
+        assertNotNull(progress.finishedAt());
+        assertTrue(users >= 5);
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.common.CursorCodec;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CouponDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.CursorPageResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.mappers.CouponMapper;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.InvalidFieldException;
+import io.github.gabrielpetry23.ecommerceapi.model.Coupon;
+import io.github.gabrielpetry23.ecommerceapi.repository.CouponRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class CursorPaginationIntegrationTest {
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Autowired
+    private CouponMapper couponMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void findAll_WalkingCursors_VisitsEveryRowOnceWithOneQueryPerPage() {
+        for (int i = 0; i < 25; i++) {
+            Coupon coupon = new Coupon();
+            coupon.setCode("CURSOR-" + UUID.randomUUID().toString().substring(0, 8));
+            coupon.setDiscountAmount(BigDecimal.ONE);
+            coupon.setDiscountPercentage(BigDecimal.ZERO);
+            coupon.setValidUntil(LocalDate.now().plusDays(1));
+            coupon.setIsActive(false);
+            couponRepository.save(coupon);
+        }
+        List<String> expected = couponRepository.findAll(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")))
+                .stream().map(Coupon::getCode).toList();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<String> visited = new ArrayList<>();
+        String cursor = null;
+        CursorPageResponseDTO<CouponDTO> page;
+        do {
+            statistics.clear();
+            page = CursorCodec.toResponse(couponService.findAll(CursorCodec.decode(cursor), 7), couponMapper::toDTO);
+            assertEquals(1, statistics.getPrepareStatementCount());
+
+            page.content().forEach(coupon -> visited.add(coupon.code()));
+            cursor = page.nextCursor();
+        } while (page.hasNext());
+
+        assertEquals(expected, visited);
+        assertFalse(page.hasNext());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void decode_TamperedCursor_ThrowsInvalidField() {
+        assertThrows(InvalidFieldException.class, () -> CursorCodec.decode("not-a-cursor"));
+    }
+}
@@ -0,0 +1,140 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.DashboardResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderStatus;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.OrderRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "app.dashboard.reconcile-initial-delay=3600000")
+@ActiveProfiles("test")
+public class DashboardRollupServiceIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private DashboardRollupService dashboardRollupService;
+
+    @Autowired
+    private DashboardService dashboardService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Order createOrder(User user, Product product, int quantity, BigDecimal total) {
+        Order order = new Order();
+        order.setUser(user);
+        order.setStatus(OrderStatus.PENDING);
+        order.setTotal(total);
+
+        OrderItem item = new OrderItem();
+        item.setOrder(order);
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        item.setPrice(total);
+        order.getItems().add(item);
+
+        return orderRepository.save(order);
+    }
+
+    @Test
+    public void incrementalDeltas_MatchFullReconciliation() {
+        dashboardRollupService.reconcile();
+        BigDecimal salesBefore = dashboardService.getDashboardMetrics().totalSalesValue();
+
+        User user = fixtures.createUser();
+        Product product = fixtures.createProduct();
+
+        Order paid = createOrder(user, product, 3, new BigDecimal("150.00"));
+        dashboardRollupService.orderCreated(paid);
+        paid.setStatus(OrderStatus.PAID);
+        orderRepository.save(paid);
+        dashboardRollupService.orderStatusChanged(paid.getTotal(), OrderStatus.PENDING, OrderStatus.PAID);
+
+        Order discounted = createOrder(user, product, 2, new BigDecimal("100.00"));
+        dashboardRollupService.orderCreated(discounted);
+        discounted.setTotal(new BigDecimal("80.00"));
+        orderRepository.save(discounted);
+        dashboardRollupService.orderTotalChanged(OrderStatus.PENDING, new BigDecimal("100.00"), discounted.getTotal());
+
+        DashboardResponseDTO incremental = dashboardService.getDashboardMetrics();
+        dashboardRollupService.reconcile();
+        DashboardResponseDTO reconciled = dashboardService.getDashboardMetrics();
+
+        assertEquals(reconciled.ordersByMonth(), incremental.ordersByMonth());
+        assertEquals(reconciled.topSellingProducts(), incremental.topSellingProducts());
+        assertEquals(0, reconciled.totalSalesValue().compareTo(incremental.totalSalesValue()));
+
+        BigDecimal expectedSales = (salesBefore == null ? BigDecimal.ZERO : salesBefore).add(new BigDecimal("150.00"));
+        assertEquals(0, expectedSales.compareTo(incremental.totalSalesValue()));
+    }
+
+    @Test
+    public void reconcileBetweenCommitAndDelta_OrderCountedOnce() {
+        User user = fixtures.createUser();
+        Product product = fixtures.createProduct();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order order = createOrder(user, product, 1, new BigDecimal("50.00"));
+            // Registered before the rollup's own synchronization, so the reconcile sees the
+            // committed order and finishes before the delta is applied
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    CompletableFuture.runAsync(dashboardRollupService::reconcile).join();
+                }
+            });
+            dashboardRollupService.orderCreated(order);
+        });
+
+        DashboardResponseDTO incremental = dashboardService.getDashboardMetrics();
+        dashboardRollupService.reconcile();
+        DashboardResponseDTO reconciled = dashboardService.getDashboardMetrics();
+
+        assertEquals(reconciled.ordersByMonth(), incremental.ordersByMonth());
+        assertEquals(reconciled.topSellingProducts(), incremental.topSellingProducts());
+    }
+
+    @Test
+    public void reconcile_DriftedRollups_AreCorrected() {
+        dashboardRollupService.reconcile();
+        UUID unsoldProduct = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO dashboard_product_sales (product_id, units_sold) VALUES (?, ?)", unsoldProduct, 7L);
+        jdbcTemplate.update("UPDATE dashboard_status_revenue SET order_count = order_count + 3");
+
+        dashboardRollupService.reconcile();
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM dashboard_product_sales WHERE product_id = ?", Integer.class, unsoldProduct));
+        assertEquals(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM orders", Long.class),
+                jdbcTemplate.queryForObject("SELECT COALESCE(SUM(order_count), 0) FROM dashboard_status_revenue", Long.class));
+    }
+}
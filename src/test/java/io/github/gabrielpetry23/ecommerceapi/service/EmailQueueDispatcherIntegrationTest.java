@@ -0,0 +1,92 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.exceptions.EmailSendingException;
+import io.github.gabrielpetry23.ecommerceapi.model.EmailQueue;
+import io.github.gabrielpetry23.ecommerceapi.model.EmailStatus;
+import io.github.gabrielpetry23.ecommerceapi.repository.EmailQueueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(properties = {
+        "app.email.dispatcher.initial-delay=3600000",
+        "app.email.dispatcher.max-attempts=2"
+})
+@ActiveProfiles("test")
+public class EmailQueueDispatcherIntegrationTest {
+
+    @Autowired
+    private EmailQueueDispatcher dispatcher;
+
+    @Autowired
+    private EmailQueueRepository emailQueueRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        emailQueueRepository.deleteAll();
+    }
+
+    private EmailQueue queueEmail(String recipient) {
+        EmailQueue email = new EmailQueue();
+        email.setRecipientEmail(recipient);
+        email.setSubject("Subject");
+        email.setBody("<p>Body</p>");
+        return emailQueueRepository.save(email);
+    }
+
+    @Test
+    public void dispatchPendingEmails_MixedResults_MarksSentAndSchedulesRetry() {
+        EmailQueue ok = queueEmail("ok@example.com");
+        EmailQueue broken = queueEmail("broken@example.com");
+        doThrow(new EmailSendingException("SMTP down"))
+                .when(emailService).deliver(argThat(email -> "broken@example.com".equals(email.getRecipientEmail())));
+
+        dispatcher.dispatchPendingEmails();
+
+        EmailQueue sent = emailQueueRepository.findById(ok.getId()).orElseThrow();
+        assertEquals(EmailStatus.SENT, sent.getStatus());
+        assertEquals(1, sent.getAttempts());
+        assertNull(sent.getErrorMessage());
+
+        EmailQueue retry = emailQueueRepository.findById(broken.getId()).orElseThrow();
+        assertEquals(EmailStatus.PENDING, retry.getStatus());
+        assertEquals(1, retry.getAttempts());
+        assertNotNull(retry.getLastAttemptAt());
+        assertEquals("SMTP down", retry.getErrorMessage());
+    }
+
+    @Test
+    public void dispatchPendingEmails_RetryStillInBackoff_IsNotClaimedAgain() {
+        queueEmail("broken@example.com");
+        doThrow(new EmailSendingException("SMTP down")).when(emailService).deliver(any());
+
+        dispatcher.dispatchPendingEmails();
+        dispatcher.dispatchPendingEmails();
+
+        verify(emailService, times(1)).deliver(any());
+    }
+
+    @Test
+    public void claimBatch_AlreadyClaimedRows_AreSkipped() {
+        queueEmail("first@example.com");
+        queueEmail("second@example.com");
+
+        assertEquals(2, dispatcher.claimBatch().size());
+        assertEquals(0, dispatcher.claimBatch().size());
+    }
+}
@@ -0,0 +1,173 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.exceptions.IdempotencyKeyMismatchException;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.IdempotentRequestInProgressException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {"app.idempotency.wait-timeout=2s", "app.idempotency.poll-interval=20ms"})
+@ActiveProfiles("test")
+public class IdempotencyServiceIntegrationTest {
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void execute_SameKeyAndRequest_RunsOperationOnce() {
+        UUID userId = UUID.randomUUID();
+        AtomicInteger runs = new AtomicInteger();
+        UUID created = UUID.randomUUID();
+
+        UUID first = idempotencyService.execute(userId, "key-1", List.of("a"), () -> {
+            runs.incrementAndGet();
+            return created;
+        });
+        UUID retry = idempotencyService.execute(userId, "key-1", List.of("a"), () -> {
+            runs.incrementAndGet();
+            return UUID.randomUUID();
+        });
+
+        assertEquals(created, first);
+        assertEquals(created, retry);
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void execute_SameKeyForAnotherUser_RunsOperationAgain() {
+        AtomicInteger runs = new AtomicInteger();
+
+        idempotencyService.execute(UUID.randomUUID(), "shared", List.of("a"), () -> {
+            runs.incrementAndGet();
+            return UUID.randomUUID();
+        });
+        idempotencyService.execute(UUID.randomUUID(), "shared", List.of("a"), () -> {
+            runs.incrementAndGet();
+            return UUID.randomUUID();
+        });
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    public void execute_SameKeyDifferentRequest_ThrowsMismatch() {
+        UUID userId = UUID.randomUUID();
+        idempotencyService.execute(userId, "key-1", List.of("a"), UUID::randomUUID);
+
+        assertThrows(IdempotencyKeyMismatchException.class,
+                () -> idempotencyService.execute(userId, "key-1", List.of("b"), UUID::randomUUID));
+    }
+
+    @Test
+    public void execute_OperationFails_ReleasesKeyForRetry() {
+        UUID userId = UUID.randomUUID();
+
+        assertThrows(IllegalArgumentException.class, () -> idempotencyService.execute(userId, "key-1", List.of("a"), () -> {
+            throw new IllegalArgumentException("Cart is empty");
+        }));
+        UUID created = UUID.randomUUID();
+        UUID retry = idempotencyService.execute(userId, "key-1", List.of("a"), () -> created);
+
+        assertEquals(created, retry);
+    }
+
+    @Test
+    public void execute_ConcurrentDuplicate_WaitsForFirstResult() throws Exception {
+        UUID userId = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<UUID> first = CompletableFuture.supplyAsync(() -> idempotencyService.execute(userId, "key-1", List.of("a"), () -> {
+            runs.incrementAndGet();
+            started.countDown();
+            await(release);
+            return created;
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        CompletableFuture<UUID> duplicate = CompletableFuture.supplyAsync(() -> idempotencyService.execute(userId, "key-1", List.of("a"), () -> {
+            runs.incrementAndGet();
+            return UUID.randomUUID();
+        }));
+        release.countDown();
+
+        assertEquals(created, first.get(5, TimeUnit.SECONDS));
+        assertEquals(created, duplicate.get(5, TimeUnit.SECONDS));
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    public void execute_KeyHeldByAnotherNode_WaitsThenReportsInProgress() {
+        UUID userId = UUID.randomUUID();
+        UUID created = UUID.randomUUID();
+        idempotencyService.execute(userId, "key-1", List.of("a"), () -> created);
+        jdbcTemplate.update("UPDATE idempotency_keys SET status = 'IN_PROGRESS', resource_id = NULL, locked_until = ? WHERE user_id = ?",
+                LocalDateTime.now().plusMinutes(5), userId);
+
+        assertThrows(IdempotentRequestInProgressException.class,
+                () -> idempotencyService.execute(userId, "key-1", List.of("a"), UUID::randomUUID));
+    }
+
+    @Test
+    public void execute_LeaseOfAnotherNodeExpired_TakesOverAndRuns() {
+        UUID userId = UUID.randomUUID();
+        idempotencyService.execute(userId, "key-1", List.of("a"), UUID::randomUUID);
+        jdbcTemplate.update("UPDATE idempotency_keys SET status = 'IN_PROGRESS', resource_id = NULL, locked_until = ? WHERE user_id = ?",
+                LocalDateTime.now().minusSeconds(1), userId);
+        UUID created = UUID.randomUUID();
+
+        UUID retry = idempotencyService.execute(userId, "key-1", List.of("a"), () -> created);
+
+        assertEquals(created, retry);
+    }
+
+    @Test
+    public void purgeExpired_RemovesOnlyExpiredKeys() {
+        UUID expiredUser = UUID.randomUUID();
+        UUID liveUser = UUID.randomUUID();
+        idempotencyService.execute(expiredUser, "key-1", List.of("a"), UUID::randomUUID);
+        idempotencyService.execute(liveUser, "key-1", List.of("a"), UUID::randomUUID);
+        jdbcTemplate.update("UPDATE idempotency_keys SET expires_at = ? WHERE user_id = ?",
+                LocalDateTime.now().minusMinutes(1), expiredUser);
+
+        idempotencyService.purgeExpired();
+
+        assertEquals(0, countKeys(expiredUser));
+        assertEquals(1, countKeys(liveUser));
+    }
+
+    private int countKeys(UUID userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM idempotency_keys WHERE user_id = ?", Integer.class, userId);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
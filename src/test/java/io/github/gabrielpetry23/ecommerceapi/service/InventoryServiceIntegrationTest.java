@@ -0,0 +1,136 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.InsufficientStockException;
+import io.github.gabrielpetry23.ecommerceapi.model.OrderItem;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class InventoryServiceIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Product createProduct(String name, int stock) {
+        return fixtures.createProduct(product -> {
+            product.setName(name);
+            product.setStock(stock);
+        });
+    }
+
+    private OrderItem createItem(Product product, int quantity) {
+        OrderItem item = new OrderItem();
+        item.setProduct(product);
+        item.setQuantity(quantity);
+        return item;
+    }
+
+    private int stockOf(Product product) {
+        return productRepository.findById(product.getId()).orElseThrow().getStock();
+    }
+
+    @Test
+    public void reserve_ConcurrentCheckoutsOnLowStockProduct_NeverOversells() throws Exception {
+        int initialStock = 25;
+        int checkouts = 2000;
+        Product product = createProduct("Hot product", initialStock);
+
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < checkouts; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        transactionTemplate.executeWithoutResult(status ->
+                                inventoryService.reserve(List.of(createItem(product, 1))));
+                        succeeded.incrementAndGet();
+                    } catch (InsufficientStockException e) {
+                        rejected.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(initialStock, succeeded.get());
+        assertEquals(checkouts - initialStock, rejected.get());
+        assertEquals(0, stockOf(product));
+    }
+
+    @Test
+    public void reserve_OneLineShort_RollsBackWholeReservation() {
+        Product available = createProduct("Available", 10);
+        Product scarce = createProduct("Scarce", 1);
+
+        assertThrows(InsufficientStockException.class, () ->
+                transactionTemplate.executeWithoutResult(status ->
+                        inventoryService.reserve(List.of(createItem(available, 3), createItem(scarce, 2)))));
+
+        assertEquals(10, stockOf(available));
+        assertEquals(1, stockOf(scarce));
+    }
+
+    @Test
+    public void reserve_SameProductOnSeveralLines_DecrementsCombinedQuantity() {
+        Product product = createProduct("Repeated", 5);
+
+        transactionTemplate.executeWithoutResult(status ->
+                inventoryService.reserve(List.of(createItem(product, 2), createItem(product, 3))));
+
+        assertEquals(0, stockOf(product));
+    }
+
+    @Test
+    public void release_CancelledItems_RestoresStock() {
+        Product product = createProduct("Released", 4);
+        List<OrderItem> items = List.of(createItem(product, 3));
+
+        transactionTemplate.executeWithoutResult(status -> inventoryService.reserve(items));
+        transactionTemplate.executeWithoutResult(status -> inventoryService.release(items));
+
+        assertEquals(4, stockOf(product));
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderStatusDTO;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+public class MethodMetricsIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private SecurityService securityService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void save_ServiceAndRepositoryCalls_RecordTimersPerMethod() {
+        Category category = new Category();
+        category.setName("Timed " + UUID.randomUUID());
+
+        categoryService.save(category);
+
+        Timer service = meterRegistry.find("app.method")
+                .tags("layer", "service", "class", "CategoryService", "method", "save")
+                .timer();
+        Timer repository = meterRegistry.find("app.method")
+                .tags("layer", "repository", "class", "CategoryRepository", "method", "save")
+                .timer();
+        assertNotNull(service);
+        assertNotNull(repository);
+        assertTrue(service.count() >= 1);
+        assertTrue(repository.count() >= 1);
+    }
+
+    @Test
+    public void updateStatus_UnknownOrder_CountsErrorByExceptionType() {
+        assertThrows(EntityNotFoundException.class,
+                () -> orderService.updateStatus(UUID.randomUUID(), new OrderStatusDTO("PAID")));
+
+        Counter errors = meterRegistry.find("app.method.errors")
+                .tags("layer", "service", "class", "OrderService", "method", "updateStatus",
+                        "exception", "EntityNotFoundException")
+                .counter();
+        assertNotNull(errors);
+        assertEquals(1, errors.count());
+    }
+
+    @Test
+    public void getCurrentUserId_SecurityServiceCall_RecordsSecurityTimer() {
+        securityService.getCurrentUserId();
+
+        Timer security = meterRegistry.find("app.method")
+                .tags("layer", "security", "class", "SecurityService", "method", "getCurrentUserId")
+                .timer();
+        assertNotNull(security);
+        assertTrue(security.count() >= 1);
+    }
+
+    @Test
+    public void prometheusEndpoint_ExposesMethodHistograms() throws Exception {
+        categoryService.findAll();
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(org.hamcrest.Matchers.containsString(
+                        "app_method_seconds_bucket{class=\"CategoryService\",layer=\"service\",method=\"findAll\"")));
+    }
+}
@@ -0,0 +1,94 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationInboxIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void findNotificationsForUser_MultiplePages_WalksInboxWithCursor() {
+        User user = fixtures.createUser();
+        for (int i = 0; i < 5; i++) {
+            notificationService.sendAndPersistNotification(user, "INFO", "Message " + i);
+        }
+
+        Window<NotificationResponseDTO> first = notificationService.findNotificationsForUser(user.getId(), false, ScrollPosition.keyset(), 3);
+        Window<NotificationResponseDTO> second = notificationService.findNotificationsForUser(user.getId(), false, first.positionAt(first.size() - 1), 3);
+
+        assertEquals(3, first.size());
+        assertTrue(first.hasNext());
+        assertEquals(2, second.size());
+        assertFalse(second.hasNext());
+        assertTrue(second.stream().noneMatch(first.getContent()::contains));
+    }
+
+    @Test
+    public void markNotificationAsRead_UnreadNotification_DecrementsCounterOnce() {
+        User user = fixtures.createUser();
+        notificationService.sendAndPersistNotification(user, "INFO", "First");
+        notificationService.sendAndPersistNotification(user, "INFO", "Second");
+        assertEquals(2, notificationService.countUnreadNotificationsForUser(user.getId()));
+
+        UUID notificationId = notificationService.findNotificationsForUser(user.getId(), true, ScrollPosition.keyset(), 1)
+                .getContent().getFirst().id();
+        notificationService.markNotificationAsRead(user.getId(), notificationId);
+        notificationService.markNotificationAsRead(user.getId(), notificationId);
+
+        assertEquals(1, notificationService.countUnreadNotificationsForUser(user.getId()));
+        assertEquals(1, notificationService.findNotificationsForUser(user.getId(), true, ScrollPosition.keyset(), 10).size());
+    }
+
+    @Test
+    public void markNotificationAsRead_OtherUsersNotification_IsIgnored() {
+        User owner = fixtures.createUser();
+        User other = fixtures.createUser();
+        notificationService.sendAndPersistNotification(owner, "INFO", "Private");
+
+        UUID notificationId = notificationService.findNotificationsForUser(owner.getId(), true, ScrollPosition.keyset(), 1)
+                .getContent().getFirst().id();
+        notificationService.markNotificationAsRead(other.getId(), notificationId);
+
+        assertEquals(1, notificationService.countUnreadNotificationsForUser(owner.getId()));
+        assertEquals(0, notificationService.countUnreadNotificationsForUser(other.getId()));
+    }
+
+    @Test
+    public void markAllNotificationsAsReadForUser_ResetsCounter() {
+        User user = fixtures.createUser();
+        notificationService.sendAndPersistNotification(user, "INFO", "Single");
+        notificationService.persistAll("PROMOTION", Map.of(user.getId(), "Batched"));
+        assertEquals(2, notificationService.countUnreadNotificationsForUser(user.getId()));
+
+        notificationService.markAllNotificationsAsReadForUser(user.getId());
+
+        assertEquals(0, notificationService.countUnreadNotificationsForUser(user.getId()));
+        assertTrue(notificationService.findNotificationsForUser(user.getId(), true, ScrollPosition.keyset(), 10).isEmpty());
+        assertEquals(2, notificationService.findNotificationsForUser(user.getId(), false, ScrollPosition.keyset(), 10).size());
+    }
+}
@@ -0,0 +1,72 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class NotificationPublisherIntegrationTest {
+
+    @Autowired
+    private NotificationPublisher publisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private SimpMessagingTemplate messagingTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private NotificationResponseDTO notification(UUID userId) {
+        return new NotificationResponseDTO(UUID.randomUUID(), userId, "INFO", "Hello", null);
+    }
+
+    @Test
+    public void publishAll_DeliversToEachUserDestinationAndRecordsLatency() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+
+        publisher.publishAll(List.of(notification(first), notification(second)));
+
+        verify(messagingTemplate, timeout(2000)).convertAndSendToUser(eq(first.toString()), eq("/queue/notifications"), any(NotificationResponseDTO.class));
+        verify(messagingTemplate, timeout(2000)).convertAndSendToUser(eq(second.toString()), eq("/queue/notifications"), any(NotificationResponseDTO.class));
+        Timer latency = meterRegistry.find("notifications.publisher.delivery.latency").timer();
+        assertTrue(latency != null && latency.count() >= 2);
+    }
+
+    @Test
+    public void publish_RolledBackTransaction_IsNotDelivered() {
+        UUID userId = UUID.randomUUID();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            publisher.publish(notification(userId));
+            status.setRollbackOnly();
+        });
+
+        verify(messagingTemplate, after(500).never()).convertAndSendToUser(eq(userId.toString()), any(), any(NotificationResponseDTO.class));
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.configuration.StatementStatistics;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.OrderRequestDTO;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.OperationNotAllowedException;
+import io.github.gabrielpetry23.ecommerceapi.model.Address;
+import io.github.gabrielpetry23.ecommerceapi.model.Cart;
+import io.github.gabrielpetry23.ecommerceapi.model.CartItem;
+import io.github.gabrielpetry23.ecommerceapi.model.Order;
+import io.github.gabrielpetry23.ecommerceapi.model.PaymentMethod;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.CartRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.OrderRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.UserRepository;
+import io.github.gabrielpetry23.ecommerceapi.security.CustomAuthentication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class OrderCheckoutIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private StatementStatistics statementStatistics;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void createOrder_CartWithItems_CreatesOrderAndEmptiesCart() {
+        User user = createShopper();
+        fillCart(user, fixtures.createProducts(3));
+        authenticate(user);
+
+        Order order = orderService.createOrder(requestFor(user));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Order saved = orderRepository.findById(order.getId()).orElseThrow();
+            assertEquals(3, saved.getItems().size());
+            assertEquals(0, new BigDecimal("30.00").compareTo(saved.getTotal()));
+            assertEquals(user.getAddresses().getFirst().getId(), saved.getDeliveryAddress().getId());
+
+            Cart cart = cartRepository.findByUserId(user.getId()).orElseThrow();
+            assertTrue(cart.getItems().isEmpty());
+            assertEquals(0, BigDecimal.ZERO.compareTo(cart.getTotal()));
+        });
+    }
+
+    @Test
+    public void createOrder_MoreCartItems_RunsSameNumberOfStatements() {
+        User oneItemShopper = createShopper();
+        fillCart(oneItemShopper, fixtures.createProducts(1));
+        User fiveItemShopper = createShopper();
+        fillCart(fiveItemShopper, fixtures.createProducts(5));
+
+        long oneItem = countedCheckout(oneItemShopper);
+        long fiveItems = countedCheckout(fiveItemShopper);
+
+        assertEquals(oneItem, fiveItems);
+    }
+
+    @Test
+    public void createOrder_AddressOfAnotherUser_ThrowsOperationNotAllowed() {
+        User user = createShopper();
+        User other = createShopper();
+        fillCart(user, fixtures.createProducts(1));
+        authenticate(user);
+
+        OrderRequestDTO request = new OrderRequestDTO(other.getAddresses().getFirst().getId().toString(),
+                user.getPaymentMethods().getFirst().getId().toString(), null);
+
+        assertThrows(OperationNotAllowedException.class, () -> orderService.createOrder(request));
+    }
+
+    @Test
+    public void createOrder_UnknownPaymentMethod_ThrowsEntityNotFound() {
+        User user = createShopper();
+        fillCart(user, fixtures.createProducts(1));
+        authenticate(user);
+
+        OrderRequestDTO request = new OrderRequestDTO(user.getAddresses().getFirst().getId().toString(),
+                UUID.randomUUID().toString(), null);
+
+        assertThrows(EntityNotFoundException.class, () -> orderService.createOrder(request));
+    }
+
+    @Test
+    public void createOrder_EmptyCart_ThrowsIllegalArgument() {
+        User user = createShopper();
+        authenticate(user);
+
+        assertThrows(IllegalArgumentException.class, () -> orderService.createOrder(requestFor(user)));
+    }
+
+    private long countedCheckout(User user) {
+        authenticate(user);
+        statementStatistics.beginCount();
+        orderService.createOrder(requestFor(user));
+        return statementStatistics.endCount();
+    }
+
+    private void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(new CustomAuthentication(user));
+    }
+
+    private OrderRequestDTO requestFor(User user) {
+        return new OrderRequestDTO(user.getAddresses().getFirst().getId().toString(),
+                user.getPaymentMethods().getFirst().getId().toString(), null);
+    }
+
+    private User createShopper() {
+        User user = new User();
+        user.setName("Checkout Shopper");
+        user.setEmail("checkout-" + UUID.randomUUID() + "@example.com");
+        user.setPassword("secret");
+        user.setRole("USER");
+
+        Cart cart = new Cart();
+        cart.setUser(user);
+        user.setCart(cart);
+
+        Address address = new Address();
+        address.setUser(user);
+        address.setStreet("Main Street");
+        address.setNumber("100");
+        address.setCity("Porto Alegre");
+        address.setState("RS");
+        address.setZipCode("90000-000");
+        address.setCountry("Brazil");
+        user.getAddresses().add(address);
+
+        PaymentMethod paymentMethod = new PaymentMethod();
+        paymentMethod.setUser(user);
+        paymentMethod.setType("CREDIT_CARD");
+        paymentMethod.setProvider("VISA");
+        paymentMethod.setPaymentToken("token-" + UUID.randomUUID());
+        user.getPaymentMethods().add(paymentMethod);
+
+        return userRepository.save(user);
+    }
+
+    private void fillCart(User user, List<Product> products) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Cart cart = cartRepository.findByUserId(user.getId()).orElseThrow();
+            BigDecimal total = BigDecimal.ZERO;
+            for (Product product : products) {
+                CartItem item = new CartItem();
+                item.setCart(cart);
+                item.setProduct(product);
+                item.setQuantity(1);
+                item.setTotal(product.getPrice());
+                cart.getItems().add(item);
+                total = total.add(product.getPrice());
+            }
+            cart.setTotal(total);
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.mappers.ProductMapper;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductImage;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductImageRepository;
+import io.github.gabrielpetry23.ecommerceapi.repository.ProductReviewRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+public class ProductListingIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductMapper productMapper;
+
+    @Autowired
+    private ProductImageRepository productImageRepository;
+
+    @Autowired
+    private ProductReviewRepository productReviewRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private long statementsToRenderPage(int size) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        Page<Product> products = productService.listAll(0, size);
+        Page<ProductResponseDTO> dtos = products.map(productMapper.toDTOBatch(products.getContent()));
+
+        assertEquals(size, dtos.getNumberOfElements());
+        dtos.forEach(dto -> assertTrue(dto.category() == null || dto.category().name() != null));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    public void listAll_LargerPages_IssueSameNumberOfStatements() {
+        User reviewer = fixtures.createUser();
+        Category category = fixtures.createCategory();
+
+        for (int i = 0; i < 12; i++) {
+            Product product = fixtures.createProduct(category);
+
+            ProductImage image = new ProductImage();
+            image.setProduct(product);
+            image.setImageUrl("https://example.com/" + i + ".png");
+            productImageRepository.save(image);
+
+            ProductReview review = new ProductReview();
+            review.setProduct(product);
+            review.setUser(reviewer);
+            review.setRating(5);
+            review.setComment("Great");
+            productReviewRepository.save(review);
+        }
+
+        long smallPage = statementsToRenderPage(2);
+        long largePage = statementsToRenderPage(12);
+
+        assertEquals(smallPage, largePage);
+        assertTrue(largePage <= 4, "page, count, images and rating histogram queries expected, got " + largePage);
+    }
+}
@@ -0,0 +1,111 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductRatingDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductReviewDTO;
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.ProductReviewResponseDTO;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.EntityNotFoundException;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.model.ProductReview;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.security.SecurityService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductRatingIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoBean
+    private SecurityService securityService;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private User signIn() {
+        User reviewer = fixtures.createUser();
+        when(securityService.getCurrentUser()).thenReturn(reviewer);
+        when(securityService.getCurrentUserId()).thenReturn(reviewer.getId());
+        return reviewer;
+    }
+
+    @Test
+    public void addReview_MultipleReviews_MaintainsCountAverageAndHistogram() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+        signIn();
+
+        productService.addReview(product.getId(), new ProductReviewDTO(8, "Good"));
+        productService.addReview(product.getId(), new ProductReviewDTO(8, "Good too"));
+        ProductReview worst = productService.addReview(product.getId(), new ProductReviewDTO(3, "Meh"));
+
+        ProductRatingDTO rating = productService.findDTOById(product.getId()).orElseThrow().rating();
+        assertEquals(3, rating.reviewCount());
+        assertEquals(new BigDecimal("6.33"), rating.average());
+        assertEquals(Map.of(3, 1L, 8, 2L), rating.histogram());
+
+        productService.deleteReview(product.getId().toString(), worst.getId().toString());
+
+        rating = productService.findDTOById(product.getId()).orElseThrow().rating();
+        assertEquals(2, rating.reviewCount());
+        assertEquals(new BigDecimal("8.00"), rating.average());
+        assertEquals(Map.of(8, 2L), rating.histogram());
+    }
+
+    @Test
+    public void deleteReview_ReviewOfAnotherProduct_ThrowsNotFoundAndKeepsRatings() {
+        Product reviewed = fixtures.createProduct(fixtures.createCategory());
+        Product other = fixtures.createProduct(fixtures.createCategory());
+        signIn();
+        ProductReview review = productService.addReview(reviewed.getId(), new ProductReviewDTO(9, "Great"));
+
+        assertThrows(EntityNotFoundException.class,
+                () -> productService.deleteReview(other.getId().toString(), review.getId().toString()));
+
+        assertEquals(1, productService.findDTOById(reviewed.getId()).orElseThrow().rating().reviewCount());
+        assertEquals(0, productService.findDTOById(other.getId()).orElseThrow().rating().reviewCount());
+    }
+
+    @Test
+    public void findDTOById_NoReviews_HasEmptyRating() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+
+        ProductRatingDTO rating = productService.findDTOById(product.getId()).orElseThrow().rating();
+
+        assertEquals(0, rating.reviewCount());
+        assertNull(rating.average());
+        assertEquals(Map.of(), rating.histogram());
+    }
+
+    @Test
+    public void findAllProductReviewsDTOByProductId_ReturnsRequestedPage() {
+        Product product = fixtures.createProduct(fixtures.createCategory());
+        User reviewer = signIn();
+        for (int i = 1; i <= 5; i++) {
+            productService.addReview(product.getId(), new ProductReviewDTO(i, "Review " + i));
+        }
+
+        Page<ProductReviewResponseDTO> page = productService.findAllProductReviewsDTOByProductId(product.getId().toString(), 1, 2);
+
+        assertEquals(5, page.getTotalElements());
+        assertEquals(2, page.getNumberOfElements());
+        assertEquals(reviewer.getName(), page.getContent().getFirst().user().name());
+    }
+}
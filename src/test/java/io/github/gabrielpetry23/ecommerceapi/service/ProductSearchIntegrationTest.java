@@ -0,0 +1,72 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.exceptions.InvalidFieldException;
+import io.github.gabrielpetry23.ecommerceapi.model.Product;
+import io.github.gabrielpetry23.ecommerceapi.repository.search.ProductSearchCriteria;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ProductSearchIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Autowired
+    private ProductService productService;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    private Product createProduct(String name, String description) {
+        return fixtures.createProduct(product -> {
+            product.setName(name);
+            product.setDescription(description);
+        });
+    }
+
+    @Test
+    public void search_FullTextEngineOnH2_FallsBackToSpecification() {
+        String marker = UUID.randomUUID().toString().substring(0, 8);
+        Product match = createProduct("Searchable " + marker, "waterproof hiking boots");
+        createProduct("Other " + marker, "leather office shoes");
+
+        ProductSearchCriteria criteria = new ProductSearchCriteria(marker, null, "hiking", null, null, null, null);
+        Page<Product> spec = productService.search("spec", criteria, 0, 10);
+        Page<Product> fullText = productService.search("fulltext", criteria, 0, 10);
+
+        assertEquals(List.of(match.getId()), spec.map(Product::getId).getContent());
+        assertEquals(spec.map(Product::getId).getContent(), fullText.map(Product::getId).getContent());
+    }
+
+    @Test
+    public void autocomplete_PrefixWithWildcards_MatchesLiterally() {
+        String marker = UUID.randomUUID().toString().substring(0, 8);
+        createProduct("Auto_" + marker + " Mouse", null);
+        createProduct("Auto" + marker + " Keyboard", null);
+
+        List<String> suggestions = productService.autocomplete(null, "auto_" + marker, 10);
+
+        assertEquals(List.of("Auto_" + marker + " Mouse"), suggestions);
+        assertTrue(productService.autocomplete(null, "  ", 10).isEmpty());
+    }
+
+    @Test
+    public void search_UnknownEngine_ThrowsInvalidField() {
+        ProductSearchCriteria criteria = new ProductSearchCriteria(null, null, null, null, null, null, null);
+        assertThrows(InvalidFieldException.class, () -> productService.search("lucene", criteria, 0, 10));
+    }
+}
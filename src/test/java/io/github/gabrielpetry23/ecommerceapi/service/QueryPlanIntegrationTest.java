@@ -0,0 +1,202 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.repository.Repository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs every declared repository query against a migrated Postgres (16+, for GENERIC_PLAN)
+// and fails when a query on a hot table can only be answered with a sequential scan.
+// Point PLAN_CHECK_DATASOURCE_URL (plus _USERNAME/_PASSWORD) at a scratch database to run it.
+@SpringBootTest
+@ActiveProfiles("test")
+@EnabledIfEnvironmentVariable(named = "PLAN_CHECK_DATASOURCE_URL", matches = ".+")
+public class QueryPlanIntegrationTest {
+
+    private static final Set<String> HOT_TABLES = Set.of(
+            "orders", "order_items", "carts", "cart_items", "products", "product_images",
+            "product_reviews", "payment_methods", "addresses", "notifications", "email_queue");
+
+    // Queries that read a whole table on purpose.
+    private static final Set<String> FULL_SCANS = Set.of(
+            "ProductRepository.findCatalogVersion",
+            "CategoryRepository.findCatalogVersion");
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
+    private static final StatementLog CAPTURED = new StatementLog();
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @DynamicPropertySource
+    static void postgres(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getenv("PLAN_CHECK_DATASOURCE_URL"));
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("PLAN_CHECK_DATASOURCE_USERNAME", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("PLAN_CHECK_DATASOURCE_PASSWORD", "postgres"));
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.PostgreSQLDialect");
+        registry.add("spring.jpa.hibernate.ddl-auto", () -> "none");
+        registry.add("spring.flyway.enabled", () -> "true");
+        registry.add("spring.sql.init.mode", () -> "never");
+        registry.add("spring.jpa.properties.hibernate.session_factory.statement_inspector", () -> CapturingInspector.class.getName());
+    }
+
+    @Test
+    public void repositoryQueries_HotTables_UseIndexes() {
+        List<String> violations = new ArrayList<>();
+
+        for (Object repository : context.getBeansOfType(Repository.class).values()) {
+            Class<?> repositoryInterface = repositoryInterface(repository);
+            for (Method method : repositoryInterface.getDeclaredMethods()) {
+                String name = repositoryInterface.getSimpleName() + "." + method.getName();
+                Object[] args = sampleArguments(method.getParameterTypes());
+                if (args == null || FULL_SCANS.contains(name)) {
+                    continue;
+                }
+
+                CAPTURED.clear();
+                transactionTemplate.executeWithoutResult(status -> {
+                    try {
+                        method.invoke(repository, args);
+                    } catch (ReflectiveOperationException e) {
+                        throw new IllegalStateException(name, e);
+                    }
+                    status.setRollbackOnly();
+                });
+
+                for (String sql : CAPTURED.drain()) {
+                    seqScannedHotTables(sql).forEach(table -> violations.add(name + " scans " + table + ": " + sql));
+                }
+            }
+        }
+
+        assertTrue(violations.isEmpty(), String.join("\n", violations));
+    }
+
+    // With sequential scans priced out, a Seq Scan that remains in the plan means no index fits.
+    private List<String> seqScannedHotTables(String sql) {
+        String parameterized = sql;
+        int index = 1;
+        while (parameterized.contains("?")) {
+            parameterized = parameterized.replaceFirst("\\?", "\\$" + index++);
+        }
+        String statement = "EXPLAIN (GENERIC_PLAN) " + parameterized;
+
+        List<String> plan = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return jdbcTemplate.queryForList(statement, String.class);
+        });
+
+        List<String> tables = new ArrayList<>();
+        for (String line : plan) {
+            Matcher matcher = SEQ_SCAN.matcher(line);
+            if (matcher.find() && HOT_TABLES.contains(matcher.group(1))) {
+                tables.add(matcher.group(1));
+            }
+        }
+        return tables;
+    }
+
+    private static Class<?> repositoryInterface(Object repository) {
+        for (Class<?> candidate : repository.getClass().getInterfaces()) {
+            if (Repository.class.isAssignableFrom(candidate) && candidate.getPackageName().startsWith("io.github.gabrielpetry23")) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("No repository interface on " + repository.getClass());
+    }
+
+    // Returns null for methods taking entities or other types that cannot be sampled.
+    private static Object[] sampleArguments(Class<?>[] types) {
+        Map<Class<?>, Object> samples = Map.ofEntries(
+                Map.entry(UUID.class, UUID.randomUUID()),
+                Map.entry(String.class, "sample"),
+                Map.entry(LocalDateTime.class, LocalDateTime.now()),
+                Map.entry(LocalDate.class, LocalDate.now()),
+                Map.entry(BigDecimal.class, BigDecimal.ONE),
+                Map.entry(int.class, 1),
+                Map.entry(long.class, 1L),
+                Map.entry(Pageable.class, PageRequest.of(0, 10)),
+                Map.entry(ScrollPosition.class, ScrollPosition.keyset()),
+                Map.entry(Limit.class, Limit.of(10)));
+
+        Object[] args = new Object[types.length];
+        for (int i = 0; i < types.length; i++) {
+            if (Collection.class.isAssignableFrom(types[i])) {
+                args[i] = List.of(UUID.randomUUID());
+            } else if (samples.containsKey(types[i])) {
+                args[i] = samples.get(types[i]);
+            } else {
+                return null;
+            }
+        }
+        return args;
+    }
+
+    public static class CapturingInspector implements StatementInspector {
+
+        @Override
+        public String inspect(String sql) {
+            CAPTURED.add(sql);
+            return sql;
+        }
+    }
+
+    private static class StatementLog {
+
+        private final ConcurrentLinkedQueue<String> statements = new ConcurrentLinkedQueue<>();
+
+        void add(String sql) {
+            statements.add(sql);
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> drain() {
+            List<String> drained = new ArrayList<>(statements);
+            statements.clear();
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.configuration.StatementStatistics;
+import io.github.gabrielpetry23.ecommerceapi.model.Category;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.security.core.authority.AuthorityUtils.createAuthorityList;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// A zero threshold makes every statement slow, so the slow log can be checked for redaction.
+@SpringBootTest(properties = "app.sql-statistics.slow-threshold=0ms")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class StatementStatisticsIntegrationTest {
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private StatementStatistics statementStatistics;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        statementStatistics.reset();
+    }
+
+    @Test
+    public void findAll_RecordsShapeWithCountTimeAndRows() {
+        categoryService.save(category("Counted " + UUID.randomUUID()));
+        categoryService.save(category("Counted " + UUID.randomUUID()));
+
+        categoryService.findAll();
+
+        StatementStatistics.ShapeSnapshot select = statementStatistics.snapshot(100).shapes().stream()
+                .filter(shape -> shape.sql().startsWith("select") && shape.sql().endsWith("from categories c1_0"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(1, select.count());
+        assertTrue(select.rows() >= 2);
+        assertTrue(select.maxMs() > 0);
+        assertTrue(select.totalMs() >= select.maxMs());
+    }
+
+    @Test
+    public void save_SlowStatement_KeepsParameterTypesButNotValues() {
+        String secret = "Secret " + UUID.randomUUID();
+
+        categoryService.save(category(secret));
+
+        StatementStatistics.SlowStatement insert = statementStatistics.snapshot(100).slowStatements().stream()
+                .filter(slow -> slow.sql().startsWith("insert into categories"))
+                .findFirst()
+                .orElseThrow();
+        assertTrue(insert.parameterTypes().contains("String"));
+        assertFalse(insert.toString().contains(secret));
+        assertEquals(1, insert.rows());
+    }
+
+    @Test
+    public void shape_LiteralsAndInLists_AreNormalized() {
+        assertEquals("select p.id from product p where p.id in (?...) and p.name = ? and p.stock > ?",
+                StatementStatistics.shape("select p.id\n  from product p where p.id in (?, ?, ?)"
+                        + " and p.name = 'O''Brien' and p.stock > 10"));
+        assertEquals("select c1_0.id from category c1_0 where c1_0.id = ?",
+                StatementStatistics.shape("select c1_0.id from category c1_0 where c1_0.id = ?"));
+    }
+
+    @Test
+    public void sqlstatsEndpoint_ListsShapesAndResets() throws Exception {
+        categoryService.save(category("Listed " + UUID.randomUUID()));
+
+        mockMvc.perform(get("/actuator/sqlstats").param("limit", "5").with(jwtWithRole("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.statements").isNumber())
+                .andExpect(jsonPath("$.shapes[0].sql").isString())
+                .andExpect(jsonPath("$.slowStatements").isArray());
+
+        mockMvc.perform(delete("/actuator/sqlstats").with(jwtWithRole("ADMIN")))
+                .andExpect(status().isNoContent());
+        assertEquals(0, statementStatistics.snapshot(5).distinctShapes());
+    }
+
+    @Test
+    public void sqlstatsEndpoint_WithoutAdminRole_IsRejected() throws Exception {
+        categoryService.save(category("Hidden " + UUID.randomUUID()));
+
+        mockMvc.perform(get("/actuator/sqlstats"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/sqlstats"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(delete("/actuator/sqlstats").with(jwtWithRole("USER")))
+                .andExpect(status().isForbidden());
+        assertTrue(statementStatistics.snapshot(5).distinctShapes() > 0);
+    }
+
+    private static RequestPostProcessor jwtWithRole(String role) {
+        return jwt().authorities(createAuthorityList(role));
+    }
+
+    private Category category(String name) {
+        Category category = new Category();
+        category.setName(name);
+        return category;
+    }
+}
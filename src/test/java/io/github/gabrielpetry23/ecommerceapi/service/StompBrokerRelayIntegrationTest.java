@@ -0,0 +1,152 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.controller.dto.NotificationResponseDTO;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.ByteArrayOutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs the relay option against a minimal STOMP broker stand-in that acknowledges
+// connections and records the frames it receives.
+@SpringBootTest
+@ActiveProfiles("test")
+public class StompBrokerRelayIntegrationTest {
+
+    private static final StandInBroker broker = StandInBroker.start();
+
+    @Autowired
+    private NotificationPublisher publisher;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("app.websocket.relay.enabled", () -> "true");
+        registry.add("app.websocket.relay.host", () -> "localhost");
+        registry.add("app.websocket.relay.port", broker::port);
+    }
+
+    @AfterAll
+    static void stopBroker() throws IOException {
+        broker.close();
+    }
+
+    @Test
+    public void publish_RelayEnabled_ForwardsUserNotificationThroughExternalBroker() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        boolean forwarded = false;
+
+        // The relay connects asynchronously on startup, so retry until its system session is up.
+        for (int attempt = 0; attempt < 20 && !forwarded; attempt++) {
+            publisher.publish(new NotificationResponseDTO(UUID.randomUUID(), userId, "INFO", "Relayed", null));
+            forwarded = broker.awaitSend("/topic/unresolved-user-destination", 500);
+        }
+
+        assertTrue(forwarded);
+    }
+
+    private static final class StandInBroker implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final BlockingQueue<String> sends = new LinkedBlockingQueue<>();
+
+        private StandInBroker(ServerSocket serverSocket) {
+            this.serverSocket = serverSocket;
+        }
+
+        static StandInBroker start() {
+            try {
+                StandInBroker broker = new StandInBroker(new ServerSocket(0));
+                Thread acceptor = new Thread(broker::acceptLoop, "stomp-stand-in");
+                acceptor.setDaemon(true);
+                acceptor.start();
+                return broker;
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        int port() {
+            return serverSocket.getLocalPort();
+        }
+
+        boolean awaitSend(String destination, long timeoutMillis) throws InterruptedException {
+            long deadline = System.currentTimeMillis() + timeoutMillis;
+            String frame;
+            while ((frame = sends.poll(deadline - System.currentTimeMillis(), TimeUnit.MILLISECONDS)) != null) {
+                if (frame.contains("\ndestination:" + destination + "\n")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void acceptLoop() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    Thread reader = new Thread(() -> handle(socket), "stomp-stand-in-connection");
+                    reader.setDaemon(true);
+                    reader.start();
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        }
+
+        private void handle(Socket socket) {
+            try (socket; InputStream in = socket.getInputStream(); OutputStream out = socket.getOutputStream()) {
+                String frame;
+                while ((frame = readFrame(in)) != null) {
+                    if (frame.startsWith("CONNECT") || frame.startsWith("STOMP")) {
+                        out.write("CONNECTED\nversion:1.2\nheart-beat:0,0\n\n\0".getBytes(StandardCharsets.UTF_8));
+                        out.flush();
+                    } else if (frame.startsWith("SEND")) {
+                        sends.add(frame);
+                    }
+                }
+            } catch (IOException ignored) {
+                // connection closed by the relay
+            }
+        }
+
+        private static String readFrame(InputStream in) throws IOException {
+            ByteArrayOutputStream frame = new ByteArrayOutputStream();
+            int next;
+            while ((next = in.read()) != -1) {
+                if (next == 0) {
+                    return frame.toString(StandardCharsets.UTF_8);
+                }
+                if (frame.size() == 0 && (next == '\n' || next == '\r')) {
+                    continue;
+                }
+                frame.write(next);
+            }
+            return null;
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+    }
+}
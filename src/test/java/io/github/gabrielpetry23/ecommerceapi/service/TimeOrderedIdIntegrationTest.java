@@ -0,0 +1,73 @@
+package io.github.gabrielpetry23.ecommerceapi.service;
+
+import io.github.gabrielpetry23.ecommerceapi.TestFixtures;
+import io.github.gabrielpetry23.ecommerceapi.model.Notification;
+import io.github.gabrielpetry23.ecommerceapi.model.TimeOrderedIdGenerator;
+import io.github.gabrielpetry23.ecommerceapi.model.User;
+import io.github.gabrielpetry23.ecommerceapi.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class TimeOrderedIdIntegrationTest {
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    // Compares the way Postgres orders uuid columns: as unsigned bytes, most significant first.
+    private static final Comparator<UUID> UNSIGNED = Comparator
+            .comparing((UUID id) -> id.getMostSignificantBits(), Long::compareUnsigned)
+            .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Test
+    public void next_Burst_IsVersion7UniqueAndStrictlyIncreasing() {
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(TimeOrderedIdGenerator.next());
+        }
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertEquals(-1, Integer.signum(UNSIGNED.compare(ids.get(i - 1), ids.get(i))));
+        }
+        assertEquals(ids.size(), new HashSet<>(ids).size());
+        ids.forEach(id -> {
+            assertEquals(7, id.version());
+            assertEquals(2, id.variant());
+        });
+    }
+
+    @Test
+    public void save_Entities_AssignsTimeOrderedIds() {
+        User user = fixtures.createUser();
+
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            Notification notification = new Notification();
+            notification.setUser(user);
+            notification.setType("INFO");
+            notification.setContent("Ordered " + i);
+            ids.add(notificationRepository.save(notification).getId());
+        }
+
+        assertEquals(7, user.getId().version());
+        assertEquals(ids.stream().sorted(UNSIGNED).toList(), ids);
+    }
+}